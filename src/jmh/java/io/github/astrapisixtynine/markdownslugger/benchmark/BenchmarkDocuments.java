@@ -0,0 +1,119 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.benchmark;
+
+import java.util.Map;
+
+import io.github.astrapisixtynine.markdownslugger.slug.SlugifyConfig;
+
+/**
+ * Reproducible inputs shared by the benchmarks
+ */
+final class BenchmarkDocuments
+{
+	/**
+	 * Heading samples for different scripts
+	 */
+	enum HeadingSample
+	{
+		ASCII("Getting Started with the Command Line Interface"), LATIN_ACCENTED(
+			"Über die Größe und Schönheit der Straßenkreuzungen à la française"), CJK(
+				"快速入门指南 第二章 安装与配置"), EMOJI("🚀 Release Notes ✨ What's New in 2.0 🎉");
+
+		final String heading;
+
+		HeadingSample(String heading)
+		{
+			this.heading = heading;
+		}
+	}
+
+	/**
+	 * Slug configurations that exercise different stages of the slug algorithm
+	 */
+	enum ConfigSample
+	{
+		/** All stages enabled, as used in the README */
+		FULL(new SlugifyConfig(Map.of("ü", "ue", "ä", "ae", "ö", "oe", "ß", "ss"), true, true, "-",
+			true, true, true, "[^a-z0-9\\s-]")),
+		/** Accent removal and lowercase but no character stripping */
+		NO_STRIP(new SlugifyConfig(Map.of(), true, false, "-", true, true, true,
+			"[^a-z0-9\\s-]")),
+		/** Only whitespace replacement */
+		MINIMAL(new SlugifyConfig(Map.of(), false, false, "-", false, false, false,
+			"[^a-z0-9\\s-]"));
+
+		final SlugifyConfig config;
+
+		ConfigSample(SlugifyConfig config)
+		{
+			this.config = config;
+		}
+	}
+
+	/**
+	 * Document sizes, expressed as the number of sections of the generated document
+	 */
+	enum DocumentSize
+	{
+		SMALL(10), MEDIUM(1_000), HUGE(100_000);
+
+		final int sections;
+
+		DocumentSize(int sections)
+		{
+			this.sections = sections;
+		}
+	}
+
+	private BenchmarkDocuments()
+	{
+	}
+
+	/**
+	 * Generates a deterministic Markdown document with nested headings and paragraphs
+	 *
+	 * @param size
+	 *            the size of the document
+	 * @return the generated Markdown content
+	 */
+	static String generate(DocumentSize size)
+	{
+		HeadingSample[] samples = HeadingSample.values();
+		StringBuilder markdown = new StringBuilder();
+		for (int i = 0; i < size.sections; i++)
+		{
+			int level = 1 + i % 4;
+			markdown.append("#".repeat(level)).append(' ')
+				.append(samples[i % samples.length].heading).append(' ').append(i).append('\n');
+			markdown.append('\n');
+			markdown.append("Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do ")
+				.append("eiusmod tempor incididunt ut labore et dolore magna aliqua.\n");
+			markdown.append("Ut enim ad minim veniam, quis nostrud exercitation ullamco.\n");
+			markdown.append('\n');
+		}
+		return markdown.toString();
+	}
+}
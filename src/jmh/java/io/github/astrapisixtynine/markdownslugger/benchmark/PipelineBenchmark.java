@@ -0,0 +1,159 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.astrapisixtynine.markdownslugger.benchmark.BenchmarkDocuments.ConfigSample;
+import io.github.astrapisixtynine.markdownslugger.benchmark.BenchmarkDocuments.DocumentSize;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessor;
+import io.github.astrapisixtynine.markdownslugger.pipeline.AnchorIdInjector;
+import io.github.astrapisixtynine.markdownslugger.pipeline.HeadingExtractor;
+import io.github.astrapisixtynine.markdownslugger.pipeline.TocGenerator;
+import io.github.astrapisixtynine.markdownslugger.slug.DefaultSlugStrategy;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugMapper;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugStrategy;
+
+/**
+ * Benchmarks every step of the default pipeline in isolation and the complete default and fused
+ * pipelines on generated documents of different sizes
+ *
+ * Each step benchmark starts from a context prepared by the preceding steps during setup, so only
+ * the work of the measured step is included. The prepared contexts keep the heading table their
+ * lists are views of, so every step takes the same table based path as in the real pipeline
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PipelineBenchmark
+{
+	@Param
+	public DocumentSize documentSize;
+
+	private String content;
+
+	private SlugStrategy slugStrategy;
+
+	private MarkdownContext extracted;
+
+	private MarkdownContext prepared;
+
+	private MarkdownProcessor defaultPipeline;
+
+	private MarkdownProcessor fusedPipeline;
+
+	private final HeadingExtractor headingExtractor = new HeadingExtractor();
+
+	private SlugMapper slugMapper;
+
+	private final TocGenerator tocGenerator = new TocGenerator();
+
+	private final AnchorIdInjector anchorIdInjector = new AnchorIdInjector();
+
+	@Setup
+	public void setUp()
+	{
+		content = BenchmarkDocuments.generate(documentSize);
+		slugStrategy = new DefaultSlugStrategy(ConfigSample.FULL.config);
+		slugMapper = new SlugMapper(slugStrategy);
+		defaultPipeline = MarkdownProcessor.defaultPipeline(slugStrategy);
+		fusedPipeline = MarkdownProcessor.fusedPipeline(slugStrategy);
+
+		extracted = new MarkdownContext();
+		extracted.originalContent = content;
+		headingExtractor.process(extracted);
+
+		prepared = new MarkdownContext();
+		prepared.originalContent = content;
+		headingExtractor.process(prepared);
+		slugMapper.process(prepared);
+		if (!prepared.headingTable.backs(prepared.headings)
+			|| !prepared.headingTable.backs(prepared.slugs))
+		{
+			throw new IllegalStateException("the prepared lists are not backed by the table");
+		}
+	}
+
+	@Benchmark
+	public MarkdownContext headingExtractor()
+	{
+		MarkdownContext context = new MarkdownContext();
+		context.originalContent = content;
+		headingExtractor.process(context);
+		return context;
+	}
+
+	@Benchmark
+	public MarkdownContext slugMapper()
+	{
+		extracted.headingTable.clearSlugs();
+		slugMapper.process(extracted);
+		return extracted;
+	}
+
+	@Benchmark
+	public String tocGenerator()
+	{
+		tocGenerator.process(prepared);
+		return prepared.toc;
+	}
+
+	@Benchmark
+	public String anchorIdInjector()
+	{
+		// the splice requires the content the heading table refers to
+		prepared.originalContent = content;
+		anchorIdInjector.process(prepared);
+		return prepared.originalContent;
+	}
+
+	@Benchmark
+	public MarkdownContext defaultPipeline()
+	{
+		MarkdownContext context = new MarkdownContext();
+		context.originalContent = content;
+		defaultPipeline.process(context);
+		return context;
+	}
+
+	@Benchmark
+	public MarkdownContext fusedPipeline()
+	{
+		MarkdownContext context = new MarkdownContext();
+		context.originalContent = content;
+		fusedPipeline.process(context);
+		return context;
+	}
+}
@@ -0,0 +1,83 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.astrapisixtynine.markdownslugger.benchmark.BenchmarkDocuments.ConfigSample;
+import io.github.astrapisixtynine.markdownslugger.benchmark.BenchmarkDocuments.HeadingSample;
+import io.github.astrapisixtynine.markdownslugger.slug.DefaultSlugStrategy;
+
+/**
+ * Benchmarks {@link DefaultSlugStrategy#toSlug(String)} and the appending
+ * {@link DefaultSlugStrategy#toSlug(CharSequence, StringBuilder)} for headings in different scripts
+ * under different slug configurations
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SlugStrategyBenchmark
+{
+	@Param
+	public HeadingSample headingSample;
+
+	@Param
+	public ConfigSample configSample;
+
+	private DefaultSlugStrategy slugStrategy;
+
+	private String heading;
+
+	private final StringBuilder slug = new StringBuilder(128);
+
+	@Setup
+	public void setUp()
+	{
+		slugStrategy = new DefaultSlugStrategy(configSample.config);
+		heading = headingSample.heading;
+	}
+
+	@Benchmark
+	public String toSlug()
+	{
+		return slugStrategy.toSlug(heading);
+	}
+
+	@Benchmark
+	public int toSlugAppending()
+	{
+		slug.setLength(0);
+		return slugStrategy.toSlug(heading, slug).length();
+	}
+}
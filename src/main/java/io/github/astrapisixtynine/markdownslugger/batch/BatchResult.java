@@ -0,0 +1,77 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.batch;
+
+import java.util.List;
+
+/**
+ * The collected outcome of a batch run, with one {@link DocumentResult} per input document in
+ * input order
+ *
+ * @param <S>
+ *            the type of the document source, e.g. a file path
+ */
+public final class BatchResult<S>
+{
+	/**
+	 * The results of all documents in input order
+	 */
+	private final List<DocumentResult<S>> results;
+
+	/**
+	 * Constructs a BatchResult from the results of all documents
+	 *
+	 * @param results
+	 *            the results of all documents in input order
+	 */
+	public BatchResult(List<DocumentResult<S>> results)
+	{
+		this.results = List.copyOf(results);
+	}
+
+	/** @return the results of all documents in input order */
+	public List<DocumentResult<S>> getResults()
+	{
+		return results;
+	}
+
+	/** @return the results of all successfully processed documents in input order */
+	public List<DocumentResult<S>> getSuccesses()
+	{
+		return results.stream().filter(DocumentResult::isSuccess).toList();
+	}
+
+	/** @return the results of all documents that failed in input order */
+	public List<DocumentResult<S>> getFailures()
+	{
+		return results.stream().filter(result -> !result.isSuccess()).toList();
+	}
+
+	/** @return true if every document was processed successfully */
+	public boolean isAllSuccessful()
+	{
+		return results.stream().allMatch(DocumentResult::isSuccess);
+	}
+}
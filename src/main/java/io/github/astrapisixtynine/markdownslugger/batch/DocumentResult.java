@@ -0,0 +1,133 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.batch;
+
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+
+/**
+ * The outcome of processing a single document of a batch
+ *
+ * A result either holds the processed {@link MarkdownContext} or the failure that prevented the
+ * document from being processed
+ *
+ * @param <S>
+ *            the type of the document source, e.g. a file path
+ */
+public final class DocumentResult<S>
+{
+	/**
+	 * The position of the document in the batch input
+	 */
+	private final int index;
+
+	/**
+	 * The source the document was read from
+	 */
+	private final S source;
+
+	/**
+	 * The processed context, or null if processing failed
+	 */
+	private final MarkdownContext context;
+
+	/**
+	 * The failure that occurred, or null if processing succeeded
+	 */
+	private final Throwable failure;
+
+	private DocumentResult(int index, S source, MarkdownContext context, Throwable failure)
+	{
+		this.index = index;
+		this.source = source;
+		this.context = context;
+		this.failure = failure;
+	}
+
+	/**
+	 * Creates the result of a successfully processed document
+	 *
+	 * @param <S>
+	 *            the type of the document source
+	 * @param index
+	 *            the position of the document in the batch input
+	 * @param source
+	 *            the source the document was read from
+	 * @param context
+	 *            the processed context
+	 * @return the new result
+	 */
+	public static <S> DocumentResult<S> success(int index, S source, MarkdownContext context)
+	{
+		return new DocumentResult<>(index, source, context, null);
+	}
+
+	/**
+	 * Creates the result of a document that could not be processed
+	 *
+	 * @param <S>
+	 *            the type of the document source
+	 * @param index
+	 *            the position of the document in the batch input
+	 * @param source
+	 *            the source the document was read from
+	 * @param failure
+	 *            the failure that occurred
+	 * @return the new result
+	 */
+	public static <S> DocumentResult<S> failure(int index, S source, Throwable failure)
+	{
+		return new DocumentResult<>(index, source, null, failure);
+	}
+
+	/** @return the position of the document in the batch input */
+	public int getIndex()
+	{
+		return index;
+	}
+
+	/** @return the source the document was read from */
+	public S getSource()
+	{
+		return source;
+	}
+
+	/** @return the processed context, or null if processing failed */
+	public MarkdownContext getContext()
+	{
+		return context;
+	}
+
+	/** @return the failure that occurred, or null if processing succeeded */
+	public Throwable getFailure()
+	{
+		return failure;
+	}
+
+	/** @return true if the document was processed successfully */
+	public boolean isSuccess()
+	{
+		return failure == null;
+	}
+}
@@ -0,0 +1,337 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.batch;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessor;
+
+/**
+ * Runs a MarkdownProcessor over a corpus of documents in parallel
+ *
+ * Every document is processed with its own {@link MarkdownContext} on the configured executor, so
+ * the processor, its steps and its slug strategy are the only objects shared between threads and
+ * must therefore be thread-safe, which holds for all steps and strategies of this library. A
+ * failing document is recorded as a failed {@link DocumentResult} and does not abort the batch.
+ * The number of documents in flight at the same time is bounded, so that at most that many
+ * documents are read into memory concurrently.
+ */
+public class MarkdownBatchProcessor implements AutoCloseable
+{
+	/**
+	 * The processor that is run for every document
+	 */
+	private final MarkdownProcessor processor;
+
+	/**
+	 * The executor the documents are processed on
+	 */
+	private final Executor executor;
+
+	/**
+	 * The maximum number of documents processed at the same time
+	 */
+	private final int maxInFlight;
+
+	/**
+	 * Whether the executor was created by this batch processor and must be shut down on close
+	 */
+	private final boolean ownsExecutor;
+
+	/**
+	 * Constructs a MarkdownBatchProcessor that runs on the given executor, the executor is not
+	 * shut down when this batch processor is closed
+	 *
+	 * @param processor
+	 *            the processor that is run for every document
+	 * @param executor
+	 *            the executor the documents are processed on
+	 * @param maxInFlight
+	 *            the maximum number of documents processed at the same time
+	 * @throws IllegalArgumentException
+	 *             if maxInFlight is not positive
+	 */
+	public MarkdownBatchProcessor(MarkdownProcessor processor, Executor executor, int maxInFlight)
+	{
+		this(processor, executor, maxInFlight, false);
+	}
+
+	private MarkdownBatchProcessor(MarkdownProcessor processor, Executor executor,
+		int maxInFlight, boolean ownsExecutor)
+	{
+		if (maxInFlight <= 0)
+		{
+			throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+		}
+		this.processor = processor;
+		this.executor = executor;
+		this.maxInFlight = maxInFlight;
+		this.ownsExecutor = ownsExecutor;
+	}
+
+	/**
+	 * Creates a MarkdownBatchProcessor that processes every document on its own virtual thread
+	 *
+	 * @param processor
+	 *            the processor that is run for every document
+	 * @param maxInFlight
+	 *            the maximum number of documents processed at the same time
+	 * @return the new batch processor
+	 */
+	public static MarkdownBatchProcessor withVirtualThreads(MarkdownProcessor processor,
+		int maxInFlight)
+	{
+		return new MarkdownBatchProcessor(processor, Executors.newVirtualThreadPerTaskExecutor(),
+			maxInFlight, true);
+	}
+
+	/**
+	 * Creates a MarkdownBatchProcessor that processes the documents on a dedicated ForkJoinPool
+	 *
+	 * @param processor
+	 *            the processor that is run for every document
+	 * @param parallelism
+	 *            the parallelism of the pool, usually the number of available cores
+	 * @param maxInFlight
+	 *            the maximum number of documents processed at the same time
+	 * @return the new batch processor
+	 */
+	public static MarkdownBatchProcessor withForkJoinPool(MarkdownProcessor processor,
+		int parallelism, int maxInFlight)
+	{
+		return new MarkdownBatchProcessor(processor, new ForkJoinPool(parallelism), maxInFlight,
+			true);
+	}
+
+	/**
+	 * Processes the given contexts in parallel, each context is enriched in place
+	 *
+	 * @param contexts
+	 *            the contexts to process
+	 * @return the results of all contexts in input order
+	 * @throws InterruptedException
+	 *             if the calling thread is interrupted while waiting for the batch
+	 */
+	public BatchResult<MarkdownContext> processContexts(Collection<MarkdownContext> contexts)
+		throws InterruptedException
+	{
+		return collect(contexts, this::processContext);
+	}
+
+	/**
+	 * Reads the given UTF-8 encoded files and processes them in parallel
+	 *
+	 * @param files
+	 *            the Markdown files to process
+	 * @return the results of all files in input order
+	 * @throws InterruptedException
+	 *             if the calling thread is interrupted while waiting for the batch
+	 */
+	public BatchResult<Path> processFiles(Collection<Path> files) throws InterruptedException
+	{
+		return collect(files, this::processFile);
+	}
+
+	/**
+	 * Reads the given UTF-8 encoded files, processes them in parallel and hands every result to
+	 * the given consumer as soon as it is available instead of collecting the results
+	 *
+	 * The consumer is called from the worker threads and must be thread-safe. Because results are
+	 * not retained, heap usage stays bounded by the number of documents in flight. If the consumer
+	 * throws, no further files are submitted and the first exception is rethrown once the files in
+	 * flight have completed.
+	 *
+	 * @param files
+	 *            the Markdown files to process
+	 * @param consumer
+	 *            the consumer that receives the result of every file
+	 * @throws InterruptedException
+	 *             if the calling thread is interrupted while waiting for the batch
+	 */
+	public void processFiles(Collection<Path> files, Consumer<DocumentResult<Path>> consumer)
+		throws InterruptedException
+	{
+		run(files, this::processFile, consumer);
+	}
+
+	/**
+	 * Shuts down the executor if it was created by this batch processor
+	 */
+	@Override
+	public void close()
+	{
+		if (ownsExecutor)
+		{
+			((ExecutorService)executor).close();
+		}
+	}
+
+	private MarkdownContext processContext(MarkdownContext context)
+	{
+		processor.process(context);
+		return context;
+	}
+
+	private MarkdownContext processFile(Path file) throws Exception
+	{
+		MarkdownContext context = new MarkdownContext();
+		context.originalContent = Files.readString(file);
+		processor.process(context);
+		return context;
+	}
+
+	private <S> BatchResult<S> collect(Collection<S> sources, DocumentTask<S> task)
+		throws InterruptedException
+	{
+		// every slot is written by exactly one worker, the semaphore publishes the writes
+		List<DocumentResult<S>> results = new ArrayList<>(
+			Collections.nCopies(sources.size(), null));
+		run(sources, task, result -> results.set(result.getIndex(), result));
+		return new BatchResult<>(results);
+	}
+
+	/**
+	 * Runs the task for every source, a VirtualMachineError of a worker is reported as the failure
+	 * of its document, no further documents are submitted and the error is rethrown on the calling
+	 * thread once the documents in flight have completed; the first exception thrown by the
+	 * consumer is handled the same way
+	 */
+	private <S> void run(Collection<S> sources, DocumentTask<S> task,
+		Consumer<DocumentResult<S>> consumer) throws InterruptedException
+	{
+		List<S> documents = new ArrayList<>(sources);
+		Semaphore permits = new Semaphore(maxInFlight);
+		AtomicReference<Throwable> fatal = new AtomicReference<>();
+		try
+		{
+			for (int i = 0; i < documents.size(); i++)
+			{
+				int index = i;
+				S source = documents.get(i);
+				permits.acquire();
+				if (fatal.get() != null)
+				{
+					// a worker failed while this thread waited for the permit
+					permits.release();
+					break;
+				}
+				try
+				{
+					executor.execute(() -> {
+						try
+						{
+							DocumentResult<S> result;
+							try
+							{
+								result = execute(index, source, task);
+							}
+							catch (VirtualMachineError e)
+							{
+								fatal.compareAndSet(null, e);
+								result = DocumentResult.failure(index, source, e);
+							}
+							consumer.accept(result);
+						}
+						catch (RuntimeException | Error e)
+						{
+							// the consumer failed, the caller must learn that its sink is broken
+							fatal.compareAndSet(null, e);
+						}
+						finally
+						{
+							permits.release();
+						}
+					});
+				}
+				catch (RuntimeException e)
+				{
+					permits.release();
+					consumer.accept(DocumentResult.failure(index, source, e));
+				}
+			}
+		}
+		finally
+		{
+			// waits until every submitted document has completed
+			permits.acquireUninterruptibly(maxInFlight);
+			permits.release(maxInFlight);
+		}
+		Throwable failure = fatal.get();
+		if (failure instanceof RuntimeException e)
+		{
+			throw e;
+		}
+		if (failure instanceof Error e)
+		{
+			throw e;
+		}
+	}
+
+	private static <S> DocumentResult<S> execute(int index, S source, DocumentTask<S> task)
+	{
+		try
+		{
+			return DocumentResult.success(index, source, task.process(source));
+		}
+		catch (StackOverflowError e)
+		{
+			// a pathological document must not take down the batch
+			return DocumentResult.failure(index, source, e);
+		}
+		catch (VirtualMachineError e)
+		{
+			throw e;
+		}
+		catch (Throwable e)
+		{
+			return DocumentResult.failure(index, source, e);
+		}
+	}
+
+	/**
+	 * Processes a single document of a batch
+	 *
+	 * @param <S>
+	 *            the type of the document source
+	 */
+	@FunctionalInterface
+	private interface DocumentTask<S>
+	{
+		MarkdownContext process(S source) throws Exception;
+	}
+}
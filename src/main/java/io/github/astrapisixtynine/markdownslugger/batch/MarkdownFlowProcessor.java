@@ -0,0 +1,488 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.batch;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessor;
+
+/**
+ * A {@link Flow.Processor} that runs a MarkdownProcessor over a stream of Markdown documents and
+ * publishes the processed contexts
+ *
+ * Every document is processed with its own {@link MarkdownContext} on the configured executor. The
+ * processor requests at most {@code concurrency} documents from its upstream publisher that have
+ * not yet been delivered downstream, so a document holds its slot while it is processed and while
+ * its result waits for downstream demand. A slow subscriber therefore stalls the upstream instead
+ * of letting results pile up on the heap. Results are published in input order if ordering is
+ * enabled and in completion order otherwise.
+ *
+ * A failing document cancels the upstream subscription and terminates the stream with its
+ * failure, an error of the upstream publisher is signalled after the pending documents have been
+ * delivered. Only a single subscriber is supported.
+ */
+public class MarkdownFlowProcessor implements Flow.Processor<String, MarkdownContext>
+{
+	/**
+	 * The processor that is run for every document
+	 */
+	private final MarkdownProcessor processor;
+
+	/**
+	 * The executor the documents are processed on
+	 */
+	private final Executor executor;
+
+	/**
+	 * The maximum number of documents requested from upstream and not yet delivered downstream
+	 */
+	private final int concurrency;
+
+	/**
+	 * The results by input sequence modulo the concurrency, only used if ordering is enabled
+	 */
+	private final AtomicReferenceArray<MarkdownContext> orderedResults;
+
+	/**
+	 * The results in completion order, only used if ordering is disabled
+	 */
+	private final Queue<MarkdownContext> completedResults;
+
+	/**
+	 * The number of documents received and not yet delivered or discarded
+	 */
+	private final AtomicInteger outstanding = new AtomicInteger();
+
+	/**
+	 * The number of results the subscriber has requested and not yet received
+	 */
+	private final AtomicLong demand = new AtomicLong();
+
+	/**
+	 * Serializes the drain loop, counts the drain requests that arrived while it was running
+	 */
+	private final AtomicInteger drainRequests = new AtomicInteger();
+
+	/**
+	 * The failure of a document or of the upstream publisher
+	 */
+	private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+	/**
+	 * The subscription to the upstream publisher
+	 */
+	private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+
+	/**
+	 * The downstream subscriber
+	 */
+	private final AtomicReference<Flow.Subscriber<? super MarkdownContext>> downstream =
+		new AtomicReference<>();
+
+	/**
+	 * The sequence number of the next document received from upstream
+	 */
+	private long received;
+
+	/**
+	 * The sequence number of the next result delivered downstream, only accessed by the drain loop
+	 */
+	private long delivered;
+
+	/**
+	 * Whether the upstream publisher has completed or failed
+	 */
+	private volatile boolean upstreamDone;
+
+	/**
+	 * Whether a document failed, so the failure is signalled without waiting for pending results
+	 */
+	private volatile boolean documentFailed;
+
+	/**
+	 * Whether the subscriber cancelled its subscription
+	 */
+	private volatile boolean cancelled;
+
+	/**
+	 * Whether a terminal signal was sent to the subscriber, only accessed by the drain loop
+	 */
+	private boolean terminated;
+
+	/**
+	 * Constructs a MarkdownFlowProcessor
+	 *
+	 * @param processor
+	 *            the processor that is run for every document
+	 * @param executor
+	 *            the executor the documents are processed on
+	 * @param concurrency
+	 *            the maximum number of documents processed or waiting for downstream demand at
+	 *            the same time
+	 * @param ordered
+	 *            whether the results are published in input order
+	 * @throws IllegalArgumentException
+	 *             if concurrency is not positive
+	 */
+	public MarkdownFlowProcessor(MarkdownProcessor processor, Executor executor, int concurrency,
+		boolean ordered)
+	{
+		if (concurrency <= 0)
+		{
+			throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+		}
+		this.processor = Objects.requireNonNull(processor);
+		this.executor = Objects.requireNonNull(executor);
+		this.concurrency = concurrency;
+		this.orderedResults = ordered ? new AtomicReferenceArray<>(concurrency) : null;
+		this.completedResults = ordered ? null : new ConcurrentLinkedQueue<>();
+	}
+
+	/**
+	 * Subscribes the given subscriber to the processed contexts
+	 *
+	 * @param subscriber
+	 *            the subscriber, a second subscriber is rejected with an IllegalStateException
+	 */
+	@Override
+	public void subscribe(Flow.Subscriber<? super MarkdownContext> subscriber)
+	{
+		Objects.requireNonNull(subscriber);
+		if (!downstream.compareAndSet(null, subscriber))
+		{
+			subscriber.onSubscribe(new DownstreamSubscription(false));
+			subscriber.onError(
+				new IllegalStateException("MarkdownFlowProcessor supports a single subscriber"));
+			return;
+		}
+		subscriber.onSubscribe(new DownstreamSubscription(true));
+		drain();
+	}
+
+	/**
+	 * Requests the first documents from the given upstream subscription
+	 *
+	 * @param subscription
+	 *            the upstream subscription, a second subscription is cancelled
+	 */
+	@Override
+	public void onSubscribe(Flow.Subscription subscription)
+	{
+		if (!upstream.compareAndSet(null, subscription))
+		{
+			subscription.cancel();
+			return;
+		}
+		if (cancelled)
+		{
+			subscription.cancel();
+			return;
+		}
+		subscription.request(concurrency);
+	}
+
+	/**
+	 * Processes the given document on the executor
+	 *
+	 * @param content
+	 *            the Markdown content of the document
+	 */
+	@Override
+	public void onNext(String content)
+	{
+		if (upstreamDone || cancelled || documentFailed)
+		{
+			return;
+		}
+		if (outstanding.incrementAndGet() > concurrency)
+		{
+			outstanding.decrementAndGet();
+			upstream.get().cancel();
+			fail(new IllegalStateException("upstream publisher ignored the requested demand"));
+			return;
+		}
+		long sequence = received++;
+		try
+		{
+			executor.execute(() -> process(sequence, content));
+		}
+		catch (RuntimeException e)
+		{
+			upstream.get().cancel();
+			fail(e);
+		}
+	}
+
+	/**
+	 * Signals the given failure after the pending documents have been delivered
+	 *
+	 * @param throwable
+	 *            the failure of the upstream publisher
+	 */
+	@Override
+	public void onError(Throwable throwable)
+	{
+		failure.compareAndSet(null, throwable);
+		upstreamDone = true;
+		drain();
+	}
+
+	/**
+	 * Completes the stream after the pending documents have been delivered
+	 */
+	@Override
+	public void onComplete()
+	{
+		upstreamDone = true;
+		drain();
+	}
+
+	private void process(long sequence, String content)
+	{
+		if (cancelled || documentFailed)
+		{
+			return;
+		}
+		MarkdownContext context = new MarkdownContext();
+		try
+		{
+			context.originalContent = content;
+			processor.process(context);
+		}
+		catch (StackOverflowError e)
+		{
+			// a pathological document must not take down the worker thread
+			cancelUpstream();
+			fail(e);
+			return;
+		}
+		catch (VirtualMachineError e)
+		{
+			// the stream is terminated before the error reaches the executor
+			cancelUpstream();
+			fail(e);
+			throw e;
+		}
+		catch (Throwable e)
+		{
+			cancelUpstream();
+			fail(e);
+			return;
+		}
+		if (orderedResults != null)
+		{
+			orderedResults.set((int)(sequence % concurrency), context);
+		}
+		else
+		{
+			completedResults.offer(context);
+		}
+		drain();
+	}
+
+	private void fail(Throwable throwable)
+	{
+		failure.compareAndSet(null, throwable);
+		documentFailed = true;
+		drain();
+	}
+
+	private void cancelUpstream()
+	{
+		Flow.Subscription subscription = upstream.get();
+		if (subscription != null)
+		{
+			subscription.cancel();
+		}
+	}
+
+	/**
+	 * Delivers the available results as far as the downstream demand allows, replenishes the
+	 * upstream demand for every delivered result and sends the terminal signal
+	 */
+	private void drain()
+	{
+		if (drainRequests.getAndIncrement() != 0)
+		{
+			return;
+		}
+		int missed = 1;
+		do
+		{
+			Flow.Subscriber<? super MarkdownContext> subscriber = downstream.get();
+			if (subscriber != null && !terminated)
+			{
+				drainTo(subscriber);
+			}
+			missed = drainRequests.addAndGet(-missed);
+		}
+		while (missed != 0);
+	}
+
+	private void drainTo(Flow.Subscriber<? super MarkdownContext> subscriber)
+	{
+		if (cancelled)
+		{
+			clearResults();
+			terminated = true;
+			return;
+		}
+		if (documentFailed)
+		{
+			clearResults();
+			terminated = true;
+			subscriber.onError(failure.get());
+			return;
+		}
+		long emitted = 0;
+		long requested = demand.get();
+		while (emitted < requested && !cancelled)
+		{
+			MarkdownContext context = pollResult();
+			if (context == null)
+			{
+				break;
+			}
+			delivered++;
+			emitted++;
+			outstanding.decrementAndGet();
+			try
+			{
+				subscriber.onNext(context);
+			}
+			catch (RuntimeException e)
+			{
+				// a subscriber must not throw, the stream is cancelled as if it had cancelled
+				cancelled = true;
+				cancelUpstream();
+				clearResults();
+				terminated = true;
+				return;
+			}
+		}
+		if (emitted > 0)
+		{
+			if (requested != Long.MAX_VALUE)
+			{
+				demand.addAndGet(-emitted);
+			}
+			Flow.Subscription subscription = upstream.get();
+			if (!upstreamDone && subscription != null)
+			{
+				subscription.request(emitted);
+			}
+		}
+		if (upstreamDone && outstanding.get() == 0 && !cancelled)
+		{
+			terminated = true;
+			Throwable throwable = failure.get();
+			if (throwable != null)
+			{
+				subscriber.onError(throwable);
+			}
+			else
+			{
+				subscriber.onComplete();
+			}
+		}
+	}
+
+	private MarkdownContext pollResult()
+	{
+		if (orderedResults == null)
+		{
+			return completedResults.poll();
+		}
+		return orderedResults.getAndSet((int)(delivered % concurrency), null);
+	}
+
+	private void clearResults()
+	{
+		if (orderedResults == null)
+		{
+			completedResults.clear();
+			return;
+		}
+		for (int i = 0; i < concurrency; i++)
+		{
+			orderedResults.set(i, null);
+		}
+	}
+
+	/**
+	 * The subscription handed to the downstream subscriber
+	 */
+	private final class DownstreamSubscription implements Flow.Subscription
+	{
+		/**
+		 * Whether this subscription belongs to the accepted subscriber
+		 */
+		private final boolean active;
+
+		private DownstreamSubscription(boolean active)
+		{
+			this.active = active;
+		}
+
+		@Override
+		public void request(long n)
+		{
+			if (!active)
+			{
+				return;
+			}
+			if (n <= 0)
+			{
+				cancelUpstream();
+				fail(new IllegalArgumentException("requested demand must be positive: " + n));
+				return;
+			}
+			demand.getAndUpdate(
+				current -> Long.MAX_VALUE - current <= n ? Long.MAX_VALUE : current + n);
+			drain();
+		}
+
+		@Override
+		public void cancel()
+		{
+			if (!active)
+			{
+				return;
+			}
+			cancelled = true;
+			cancelUpstream();
+			drain();
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+
+import io.github.astrapisixtynine.markdownslugger.core.FrozenMarkdownPipeline;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessingStep;
+import io.github.astrapisixtynine.markdownslugger.core.PipelineArtifact;
+
+/**
+ * Processing step that answers a whole pipeline from a {@link MarkdownResultCache} and runs the
+ * pipeline only for content that is not cached yet
+ *
+ * Used as the single step of a processor, e.g. for a {@code MarkdownBatchProcessor}, unchanged
+ * documents skip all processing:
+ *
+ * <pre>{@code
+ * FrozenMarkdownPipeline pipeline = MarkdownProcessor.defaultPipeline(strategy).freeze();
+ * MarkdownProcessor processor = new MarkdownProcessor().addStep(new CachedPipelineStep(pipeline,
+ * 	PipelineFingerprint.of(config, pipeline), new MarkdownResultCache(directory, maximumSize)));
+ * }</pre>
+ */
+public class CachedPipelineStep implements MarkdownProcessingStep
+{
+	/**
+	 * The pipeline that processes uncached content
+	 */
+	private final FrozenMarkdownPipeline pipeline;
+
+	/**
+	 * The fingerprint of the pipeline
+	 */
+	private final String fingerprint;
+
+	/**
+	 * The cache of processing results
+	 */
+	private final MarkdownResultCache cache;
+
+	/**
+	 * Constructs a CachedPipelineStep
+	 *
+	 * @param pipeline
+	 *            the pipeline that processes uncached content
+	 * @param fingerprint
+	 *            the fingerprint of the pipeline, see {@link PipelineFingerprint}
+	 * @param cache
+	 *            the cache of processing results
+	 */
+	public CachedPipelineStep(FrozenMarkdownPipeline pipeline, String fingerprint,
+		MarkdownResultCache cache)
+	{
+		this.pipeline = pipeline;
+		this.fingerprint = fingerprint;
+		this.cache = cache;
+	}
+
+	/**
+	 * Restores the cached result of the content or runs the pipeline and caches its result
+	 *
+	 * @param context
+	 *            the MarkdownContext containing the original Markdown content
+	 * @throws UncheckedIOException
+	 *             if the cache cannot be read or written
+	 */
+	@Override
+	public void process(MarkdownContext context)
+	{
+		String content = context.originalContent;
+		try
+		{
+			if (cache.restore(fingerprint, context))
+			{
+				return;
+			}
+			pipeline.process(context);
+			cache.store(fingerprint, content, context);
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public Set<PipelineArtifact> produces()
+	{
+		return Set.of(PipelineArtifact.HEADINGS, PipelineArtifact.SLUGS, PipelineArtifact.TOC,
+			PipelineArtifact.ANCHORED_CONTENT);
+	}
+
+	@Override
+	public Set<PipelineArtifact> consumes()
+	{
+		return Set.of();
+	}
+}
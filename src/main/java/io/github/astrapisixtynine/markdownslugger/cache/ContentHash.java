@@ -0,0 +1,93 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Computes the cache key of a document from the pipeline fingerprint and the document content
+ *
+ * SHA-256 is used because a collision would silently serve the output of another document, the
+ * digest is hardware accelerated on current JVMs and needs no dependency. The content is hashed as
+ * UTF-16 code units through a small scratch buffer, so the document is not encoded as a whole.
+ */
+final class ContentHash
+{
+	/**
+	 * The number of chars hashed at a time
+	 */
+	private static final int CHUNK_SIZE = 4096;
+
+	private ContentHash()
+	{
+	}
+
+	/**
+	 * Computes the key of a document
+	 *
+	 * @param fingerprint
+	 *            the fingerprint of the pipeline
+	 * @param content
+	 *            the content of the document
+	 * @return the key as lowercase hex string
+	 */
+	static String key(String fingerprint, String content)
+	{
+		MessageDigest digest = sha256();
+		digest.update(fingerprint.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte)0);
+		byte[] scratch = new byte[Math.min(content.length(), CHUNK_SIZE) * 2];
+		for (int start = 0; start < content.length(); start += CHUNK_SIZE)
+		{
+			int end = Math.min(content.length(), start + CHUNK_SIZE);
+			for (int i = start, j = 0; i < end; i++)
+			{
+				char c = content.charAt(i);
+				scratch[j++] = (byte)(c >>> 8);
+				scratch[j++] = (byte)c;
+			}
+			digest.update(scratch, 0, (end - start) * 2);
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Creates a SHA-256 digest, which every JVM must provide
+	 */
+	static MessageDigest sha256()
+	{
+		try
+		{
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+}
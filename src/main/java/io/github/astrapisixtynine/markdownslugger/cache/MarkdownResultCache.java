@@ -0,0 +1,487 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+
+/**
+ * Persistent, size bounded cache of processing results on the local file system
+ *
+ * An entry holds the headings, their levels, the slugs, the TOC and the anchored content of a
+ * document and is keyed by the SHA-256 hash of the pipeline fingerprint and the document content.
+ * Entries are written to a temporary file and atomically moved into place, so parallel workers,
+ * also in different processes, never see a partially written entry. Incomplete or corrupt entries
+ * are treated as misses. When the entries exceed the maximum size, the least recently used
+ * entries are deleted until the cache is back below 90% of its maximum size.
+ */
+public class MarkdownResultCache
+{
+	/**
+	 * Marks the start and the end of an entry file
+	 */
+	private static final int MAGIC = 0x4D534331;
+
+	/**
+	 * The file extension of entries
+	 */
+	private static final String ENTRY_SUFFIX = ".entry";
+
+	/**
+	 * The file extension of entries that are being written
+	 */
+	private static final String TEMP_SUFFIX = ".tmp";
+
+	/**
+	 * The age after which temporary files of crashed writers are deleted
+	 */
+	private static final Duration STALE_TEMP_AGE = Duration.ofHours(1);
+
+	/**
+	 * The cache directory
+	 */
+	private final Path directory;
+
+	/**
+	 * The maximum total size of all entries in bytes
+	 */
+	private final long maximumSize;
+
+	/**
+	 * The approximate total size of all entries, recomputed from the directory by every eviction
+	 */
+	private final AtomicLong size = new AtomicLong();
+
+	/**
+	 * Whether an eviction is running
+	 */
+	private final AtomicBoolean evicting = new AtomicBoolean();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Opens or creates a cache
+	 *
+	 * @param directory
+	 *            the cache directory, created if it does not exist
+	 * @param maximumSize
+	 *            the maximum total size of all entries in bytes
+	 * @throws IOException
+	 *             if the directory cannot be created or read
+	 */
+	public MarkdownResultCache(Path directory, long maximumSize) throws IOException
+	{
+		if (maximumSize <= 0)
+		{
+			throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+		}
+		this.directory = Files.createDirectories(directory);
+		this.maximumSize = maximumSize;
+		long total = 0;
+		for (EntryFile entry : listEntries())
+		{
+			total += entry.size;
+		}
+		size.set(total);
+	}
+
+	/**
+	 * Restores the cached result for the content of the given context
+	 *
+	 * @param fingerprint
+	 *            the fingerprint of the pipeline
+	 * @param context
+	 *            the context whose original content is looked up and that receives the cached
+	 *            result on a hit
+	 * @return true on a hit, false if the context was not modified
+	 * @throws IOException
+	 *             if an existing entry cannot be read for other reasons than being incomplete
+	 */
+	public boolean restore(String fingerprint, MarkdownContext context) throws IOException
+	{
+		Path entry = entryPath(ContentHash.key(fingerprint, context.originalContent));
+		boolean complete;
+		try (DataInputStream in = new DataInputStream(
+			new BufferedInputStream(Files.newInputStream(entry))))
+		{
+			complete = read(in, context);
+		}
+		catch (NoSuchFileException e)
+		{
+			misses.increment();
+			return false;
+		}
+		if (!complete)
+		{
+			// deleted after closing the stream, open files cannot be deleted on every platform
+			Files.deleteIfExists(entry);
+			misses.increment();
+			return false;
+		}
+		hits.increment();
+		touch(entry);
+		return true;
+	}
+
+	/**
+	 * Reads an entry into the context, the context is only modified if the entry is complete
+	 *
+	 * @return true if the entry is complete, false if it is incomplete or corrupt
+	 */
+	private static boolean read(DataInputStream in, MarkdownContext context) throws IOException
+	{
+		try
+		{
+			if (in.readInt() != MAGIC)
+			{
+				return false;
+			}
+			int count = in.readInt();
+			List<String> headings = new ArrayList<>();
+			List<Integer> levels = new ArrayList<>();
+			List<String> slugs = new ArrayList<>();
+			for (int i = 0; i < count; i++)
+			{
+				levels.add(in.readInt());
+				headings.add(readString(in));
+				slugs.add(readString(in));
+			}
+			String toc = readString(in);
+			String content = readString(in);
+			if (in.readInt() != MAGIC)
+			{
+				return false;
+			}
+			context.headingTable.reset("");
+			context.headings = headings;
+			context.headingLevels = levels;
+			context.slugs = slugs;
+			context.toc = toc;
+			context.originalContent = content;
+			return true;
+		}
+		catch (EOFException | IllegalArgumentException e)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * Stores the result of processing the given content
+	 *
+	 * @param fingerprint
+	 *            the fingerprint of the pipeline
+	 * @param content
+	 *            the original content of the document
+	 * @param result
+	 *            the processed context
+	 * @throws IOException
+	 *             if the entry cannot be written
+	 */
+	public void store(String fingerprint, String content, MarkdownContext result)
+		throws IOException
+	{
+		Path entry = entryPath(ContentHash.key(fingerprint, content));
+		if (Files.exists(entry))
+		{
+			return;
+		}
+		Files.createDirectories(entry.getParent());
+		Path temp = Files.createTempFile(entry.getParent(), entry.getFileName().toString(),
+			TEMP_SUFFIX);
+		try
+		{
+			try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(temp))))
+			{
+				out.writeInt(MAGIC);
+				out.writeInt(result.headings.size());
+				for (int i = 0; i < result.headings.size(); i++)
+				{
+					out.writeInt(result.headingLevels.get(i));
+					writeString(out, result.headings.get(i));
+					writeString(out, result.slugs.get(i));
+				}
+				writeString(out, result.toc);
+				writeString(out, result.originalContent);
+				out.writeInt(MAGIC);
+			}
+			long written = Files.size(temp);
+			try
+			{
+				Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException e)
+			{
+				Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+			}
+			if (size.addAndGet(written) > maximumSize)
+			{
+				evict();
+			}
+		}
+		finally
+		{
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * Deletes all entries
+	 *
+	 * @throws IOException
+	 *             if an entry cannot be deleted
+	 */
+	public void clear() throws IOException
+	{
+		for (EntryFile entry : listEntries())
+		{
+			Files.deleteIfExists(entry.path);
+		}
+		size.set(0);
+	}
+
+	/**
+	 * Gets the total size of all entries as known to this instance, it is approximate while other
+	 * instances or concurrent evictions modify the cache and corrected by every eviction
+	 *
+	 * @return the total size of all entries in bytes
+	 */
+	public long getSize()
+	{
+		return size.get();
+	}
+
+	/** @return the number of lookups that were answered from the cache */
+	public long getHitCount()
+	{
+		return hits.sum();
+	}
+
+	/** @return the number of lookups that found no usable entry */
+	public long getMissCount()
+	{
+		return misses.sum();
+	}
+
+	/** @return the number of entries deleted to stay below the maximum size */
+	public long getEvictionCount()
+	{
+		return evictions.sum();
+	}
+
+	/**
+	 * Deletes the least recently used entries until the cache is below 90% of its maximum size,
+	 * only one thread of this instance evicts at a time
+	 */
+	private void evict() throws IOException
+	{
+		if (!evicting.compareAndSet(false, true))
+		{
+			return;
+		}
+		try
+		{
+			List<EntryFile> entries = listEntries();
+			entries.sort(Comparator.comparing((EntryFile entry) -> entry.lastModified));
+			long total = 0;
+			for (EntryFile entry : entries)
+			{
+				total += entry.size;
+			}
+			long target = maximumSize - maximumSize / 10;
+			for (int i = 0; i < entries.size() && total > target; i++)
+			{
+				if (Files.deleteIfExists(entries.get(i).path))
+				{
+					evictions.increment();
+				}
+				total -= entries.get(i).size;
+			}
+			size.set(total);
+		}
+		finally
+		{
+			evicting.set(false);
+		}
+	}
+
+	/**
+	 * Lists all entries and deletes temporary files left behind by crashed writers
+	 */
+	private List<EntryFile> listEntries() throws IOException
+	{
+		List<EntryFile> entries = new ArrayList<>();
+		FileTime staleBefore = FileTime.from(Instant.now().minus(STALE_TEMP_AGE));
+		// directory streams instead of Files.walk, files of concurrent writers may vanish while
+		// listing
+		try (DirectoryStream<Path> shards = Files.newDirectoryStream(directory, Files::isDirectory))
+		{
+			for (Path shard : shards)
+			{
+				try (DirectoryStream<Path> files = Files.newDirectoryStream(shard))
+				{
+					for (Path file : files)
+					{
+						addEntry(file, staleBefore, entries);
+					}
+				}
+				catch (NoSuchFileException e)
+				{
+					// the shard was deleted concurrently
+				}
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Adds a file to the entries if it is an entry, or deletes it if it is a stale temporary file
+	 */
+	private static void addEntry(Path file, FileTime staleBefore, List<EntryFile> entries)
+		throws IOException
+	{
+		String name = file.getFileName().toString();
+		if (!name.endsWith(ENTRY_SUFFIX) && !name.endsWith(TEMP_SUFFIX))
+		{
+			return;
+		}
+		BasicFileAttributes attributes;
+		try
+		{
+			attributes = Files.readAttributes(file, BasicFileAttributes.class);
+		}
+		catch (NoSuchFileException e)
+		{
+			return;
+		}
+		if (name.endsWith(ENTRY_SUFFIX))
+		{
+			entries.add(new EntryFile(file, attributes.size(), attributes.lastModifiedTime()));
+		}
+		else if (attributes.lastModifiedTime().compareTo(staleBefore) < 0)
+		{
+			Files.deleteIfExists(file);
+		}
+	}
+
+	/**
+	 * Gets the path of an entry, entries are spread over 256 subdirectories
+	 */
+	private Path entryPath(String key)
+	{
+		return directory.resolve(key.substring(0, 2)).resolve(key + ENTRY_SUFFIX);
+	}
+
+	/**
+	 * Marks an entry as recently used, failures are ignored because the entry may have been
+	 * evicted concurrently
+	 */
+	private static void touch(Path entry)
+	{
+		try
+		{
+			Files.setLastModifiedTime(entry, FileTime.from(Instant.now()));
+		}
+		catch (IOException e)
+		{
+			// the entry is still valid for this lookup
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException
+	{
+		if (value == null)
+		{
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException
+	{
+		int length = in.readInt();
+		if (length < 0)
+		{
+			if (length == -1)
+			{
+				return null;
+			}
+			throw new IllegalArgumentException("Invalid string length " + length);
+		}
+		return new String(readBytes(in, length), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Reads exactly the given number of bytes without trusting the length for the allocation
+	 */
+	private static byte[] readBytes(InputStream in, int length) throws IOException
+	{
+		byte[] bytes = in.readNBytes(length);
+		if (bytes.length != length)
+		{
+			throw new EOFException();
+		}
+		return bytes;
+	}
+
+	/**
+	 * An entry file with its size and last modification time
+	 */
+	private record EntryFile(Path path, long size, FileTime lastModified)
+	{
+	}
+}
@@ -0,0 +1,95 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+import io.github.astrapisixtynine.markdownslugger.core.FrozenMarkdownPipeline;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessingStep;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugifyConfig;
+
+/**
+ * Creates fingerprints that identify the configuration of a pipeline, cached results are only
+ * reused by pipelines with the same fingerprint
+ */
+public final class PipelineFingerprint
+{
+	/**
+	 * Version of the fingerprint format, changed whenever the output of the library changes
+	 */
+	private static final String FORMAT_VERSION = "1";
+
+	private PipelineFingerprint()
+	{
+	}
+
+	/**
+	 * Creates the fingerprint of a pipeline from its slug configuration and the classes of its
+	 * steps
+	 *
+	 * @param config
+	 *            the slug configuration used by the pipeline
+	 * @param pipeline
+	 *            the pipeline
+	 * @return the fingerprint as hex string
+	 */
+	public static String of(SlugifyConfig config, FrozenMarkdownPipeline pipeline)
+	{
+		StringBuilder description = new StringBuilder("markdown-slugger:").append(FORMAT_VERSION);
+		for (MarkdownProcessingStep step : pipeline.getSteps())
+		{
+			description.append("\nstep:").append(step.getClass().getName());
+		}
+		description.append("\nlowerCase:").append(config.isToLowerCase())
+			.append("\nstripNonAlphanumeric:").append(config.isStripNonAlphanumeric())
+			.append("\nwhitespaceReplacement:").append(config.getWhitespaceReplacement())
+			.append("\ntrimEdges:").append(config.isTrimEdges()).append("\nremoveAccents:")
+			.append(config.isRemoveAccents()).append("\ncollapseDashes:")
+			.append(config.isCollapseDashes()).append("\nallowedCharactersRegex:")
+			.append(config.getAllowedCharactersRegex());
+		Map<String, String> replacements = config.getReplacements() == null
+			? Map.of()
+			: new TreeMap<>(config.getReplacements());
+		replacements.forEach((key, value) -> description.append("\nreplace:").append(key.length())
+			.append(':').append(key).append('=').append(value));
+		return of(description.toString());
+	}
+
+	/**
+	 * Creates a fingerprint from a free form description, e.g. for pipelines with custom steps
+	 *
+	 * @param description
+	 *            the description of everything that affects the output of the pipeline
+	 * @return the fingerprint as hex string
+	 */
+	public static String of(String description)
+	{
+		return HexFormat.of().formatHex(
+			ContentHash.sha256().digest(description.getBytes(StandardCharsets.UTF_8)));
+	}
+}
@@ -0,0 +1,184 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.cli;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.astrapisixtynine.markdownslugger.slug.SlugifyConfig;
+
+/**
+ * The parsed command line options of the {@link MarkdownSluggerCli}
+ */
+final class CliOptions
+{
+	/**
+	 * The usage text
+	 */
+	static final String USAGE = """
+		Usage: markdown-slugger [options] <file or directory>...
+
+		Injects anchor IDs into the headings of Markdown files, in place or into an output
+		directory. Directories are searched recursively for *.md files.
+
+		Options:
+		  -o, --output <dir>        write the results to this directory instead of in place
+		  -j, --parallelism <n>     number of files processed in parallel (default: CPU count)
+		  -c, --check               only report files whose anchors are missing or outdated
+		      --separator <s>       replacement for whitespace in slugs (default: -)
+		      --replace <from=to>   custom replacement applied first, may be repeated
+		      --allowed <regex>     regex of the characters removed from slugs
+		                            (default: [^a-z0-9\\s-])
+		      --keep-case           do not convert slugs to lowercase
+		      --keep-accents        do not remove accents
+		      --keep-symbols        do not remove the characters matched by --allowed
+		      --no-trim             do not trim separators at the edges of slugs
+		      --no-collapse         do not collapse repeated separators
+		  -h, --help                print this help
+		""";
+
+	List<Path> inputs = new ArrayList<>();
+
+	Path output;
+
+	int parallelism = Runtime.getRuntime().availableProcessors();
+
+	boolean check;
+
+	boolean help;
+
+	String separator = "-";
+
+	Map<String, String> replacements = new LinkedHashMap<>();
+
+	String allowedCharactersRegex = "[^a-z0-9\\s-]";
+
+	boolean toLowerCase = true;
+
+	boolean removeAccents = true;
+
+	boolean stripNonAlphanumeric = true;
+
+	boolean trimEdges = true;
+
+	boolean collapseDashes = true;
+
+	/**
+	 * Parses the command line arguments
+	 *
+	 * @param args
+	 *            the command line arguments
+	 * @return the parsed options
+	 * @throws IllegalArgumentException
+	 *             if an argument is unknown or invalid
+	 */
+	static CliOptions parse(String[] args)
+	{
+		CliOptions options = new CliOptions();
+		for (int i = 0; i < args.length; i++)
+		{
+			String arg = args[i];
+			switch (arg)
+			{
+				case "-o", "--output" -> options.output = Path.of(value(args, ++i, arg));
+				case "-j", "--parallelism" -> options.parallelism = parallelism(
+					value(args, ++i, arg));
+				case "-c", "--check" -> options.check = true;
+				case "--separator" -> options.separator = value(args, ++i, arg);
+				case "--replace" -> replacement(value(args, ++i, arg), options.replacements);
+				case "--allowed" -> options.allowedCharactersRegex = value(args, ++i, arg);
+				case "--keep-case" -> options.toLowerCase = false;
+				case "--keep-accents" -> options.removeAccents = false;
+				case "--keep-symbols" -> options.stripNonAlphanumeric = false;
+				case "--no-trim" -> options.trimEdges = false;
+				case "--no-collapse" -> options.collapseDashes = false;
+				case "-h", "--help" -> options.help = true;
+				default -> {
+					if (arg.startsWith("-"))
+					{
+						throw new IllegalArgumentException("Unknown option " + arg);
+					}
+					options.inputs.add(Path.of(arg));
+				}
+			}
+		}
+		if (!options.help && options.inputs.isEmpty())
+		{
+			throw new IllegalArgumentException("No file or directory given");
+		}
+		return options;
+	}
+
+	/**
+	 * Creates the slug configuration from the options
+	 *
+	 * @return the slug configuration
+	 */
+	SlugifyConfig toSlugifyConfig()
+	{
+		return new SlugifyConfig(Map.copyOf(replacements), toLowerCase, stripNonAlphanumeric,
+			separator, trimEdges, removeAccents, collapseDashes, allowedCharactersRegex);
+	}
+
+	private static String value(String[] args, int index, String option)
+	{
+		if (index >= args.length)
+		{
+			throw new IllegalArgumentException("Missing value for " + option);
+		}
+		return args[index];
+	}
+
+	private static int parallelism(String value)
+	{
+		try
+		{
+			int parallelism = Integer.parseInt(value);
+			if (parallelism > 0)
+			{
+				return parallelism;
+			}
+		}
+		catch (NumberFormatException e)
+		{
+			// reported below
+		}
+		throw new IllegalArgumentException("Invalid parallelism " + value);
+	}
+
+	private static void replacement(String value, Map<String, String> replacements)
+	{
+		int separator = value.indexOf('=');
+		if (separator <= 0)
+		{
+			throw new IllegalArgumentException(
+				"Invalid replacement " + value + ", expected from=to");
+		}
+		replacements.put(value.substring(0, separator), value.substring(separator + 1));
+	}
+}
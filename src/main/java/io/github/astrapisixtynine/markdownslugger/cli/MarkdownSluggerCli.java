@@ -0,0 +1,319 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import io.github.astrapisixtynine.markdownslugger.core.FrozenMarkdownPipeline;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessor;
+import io.github.astrapisixtynine.markdownslugger.slug.DefaultSlugStrategy;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugStrategy;
+
+/**
+ * Command line entry point that injects anchor IDs into Markdown files
+ *
+ * A single file is processed on the main thread so short runs, e.g. in pre-commit hooks, load as
+ * few classes as possible; together with the class data sharing archive built by the
+ * {@code cdsArchive} Gradle task this keeps the startup time low. Several files are processed on a
+ * fork join pool with the configured parallelism. The exit code is 0 on success, 1 if a file
+ * failed or, with {@code --check}, is outdated, and 2 for invalid arguments.
+ *
+ * Anchor IDs that a previous run appended to the headings are removed before the pipeline runs, so
+ * processing a file twice yields the same content and {@code --check} reports up to date files as
+ * such. An anchor ID that differs from the generated slug was written by the author, so its heading
+ * line is kept as it is.
+ */
+public final class MarkdownSluggerCli
+{
+	/** Exit code of a successful run */
+	static final int EXIT_OK = 0;
+
+	/** Exit code of a run with failed or outdated files */
+	static final int EXIT_FAILED = 1;
+
+	/** Exit code of a run with invalid arguments */
+	static final int EXIT_USAGE = 2;
+
+	/** Matches a heading line that ends with an anchor ID, capturing the heading text and the ID */
+	private static final Pattern ANCHORED_HEADING = Pattern
+		.compile("^[ \t]*#{1,6} (.*?) \\{#([^{}\\s]*)\\}[ \t]*$");
+
+	private MarkdownSluggerCli()
+	{
+	}
+
+	/**
+	 * Runs the command line interface and exits the JVM with its exit code
+	 *
+	 * @param args
+	 *            the command line arguments
+	 */
+	public static void main(String[] args)
+	{
+		System.exit(run(args, System.out, System.err));
+	}
+
+	/**
+	 * Runs the command line interface
+	 *
+	 * @param args
+	 *            the command line arguments
+	 * @param out
+	 *            the stream for regular output
+	 * @param err
+	 *            the stream for errors
+	 * @return the exit code
+	 */
+	public static int run(String[] args, PrintStream out, PrintStream err)
+	{
+		CliOptions options;
+		SlugStrategy slugStrategy;
+		FrozenMarkdownPipeline pipeline;
+		try
+		{
+			options = CliOptions.parse(args);
+			if (options.help)
+			{
+				out.print(CliOptions.USAGE);
+				return EXIT_OK;
+			}
+			slugStrategy = new DefaultSlugStrategy(options.toSlugifyConfig());
+			pipeline = MarkdownProcessor.fusedPipeline(slugStrategy).freeze();
+		}
+		catch (IllegalArgumentException e)
+		{
+			err.println("error: " + e.getMessage());
+			err.print(CliOptions.USAGE);
+			return EXIT_USAGE;
+		}
+
+		List<Job> jobs = new ArrayList<>();
+		AtomicInteger failed = new AtomicInteger();
+		for (Path input : options.inputs)
+		{
+			try
+			{
+				collectJobs(input, options.output, jobs);
+			}
+			catch (IOException e)
+			{
+				err.println("error: " + input + ": " + e);
+				failed.incrementAndGet();
+			}
+		}
+
+		if (jobs.size() <= 1 || options.parallelism == 1)
+		{
+			jobs.forEach(
+				job -> process(job, pipeline, slugStrategy, options.check, out, err, failed));
+		}
+		else
+		{
+			ForkJoinPool pool = new ForkJoinPool(options.parallelism);
+			try
+			{
+				pool.submit(() -> jobs.parallelStream().forEach(
+					job -> process(job, pipeline, slugStrategy, options.check, out, err, failed)))
+					.get();
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				failed.incrementAndGet();
+			}
+			catch (ExecutionException e)
+			{
+				err.println("error: " + e.getCause());
+				failed.incrementAndGet();
+			}
+			finally
+			{
+				pool.shutdownNow();
+			}
+		}
+		return failed.get() == 0 ? EXIT_OK : EXIT_FAILED;
+	}
+
+	/**
+	 * Adds the job of a file or the jobs of all Markdown files of a directory tree
+	 */
+	private static void collectJobs(Path input, Path output, List<Job> jobs) throws IOException
+	{
+		if (Files.isDirectory(input))
+		{
+			try (Stream<Path> files = Files.walk(input))
+			{
+				files.filter(file -> file.getFileName().toString().endsWith(".md"))
+					.filter(Files::isRegularFile).sorted()
+					.forEach(file -> jobs.add(new Job(file,
+						output == null ? file : output.resolve(input.relativize(file)))));
+			}
+		}
+		else if (Files.isRegularFile(input))
+		{
+			jobs.add(new Job(input, output == null ? input : output.resolve(input.getFileName())));
+		}
+		else
+		{
+			throw new IOException("no such file or directory");
+		}
+	}
+
+	/**
+	 * Processes a single file and writes the result if it differs from the target
+	 */
+	private static void process(Job job, FrozenMarkdownPipeline pipeline,
+		SlugStrategy slugStrategy, boolean check, PrintStream out, PrintStream err,
+		AtomicInteger failed)
+	{
+		try
+		{
+			String content = Files.readString(job.source());
+			Map<Integer, String> customLines = new HashMap<>();
+			MarkdownContext context = new MarkdownContext();
+			context.originalContent = stripAnchors(content, slugStrategy, customLines);
+			pipeline.process(context);
+			String anchored = restoreLines(context.originalContent, customLines);
+			boolean inPlace = job.source().equals(job.target());
+			if (inPlace && anchored.equals(content))
+			{
+				return;
+			}
+			if (check)
+			{
+				if (!inPlace && Files.isRegularFile(job.target())
+					&& anchored.equals(Files.readString(job.target())))
+				{
+					return;
+				}
+				out.println("outdated: " + job.target());
+				failed.incrementAndGet();
+				return;
+			}
+			Path parent = job.target().toAbsolutePath().getParent();
+			if (parent != null)
+			{
+				Files.createDirectories(parent);
+			}
+			Files.writeString(job.target(), anchored);
+			out.println("updated: " + job.target());
+		}
+		catch (IOException | RuntimeException e)
+		{
+			err.println("error: " + job.source() + ": " + e);
+			failed.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Removes the anchor IDs that equal the slug of their heading from the given content
+	 *
+	 * Heading lines with any other anchor ID are put into the given map by their line index, so
+	 * they can be restored after the pipeline ran
+	 *
+	 * @param content
+	 *            the Markdown content
+	 * @param slugStrategy
+	 *            the strategy that generates the slugs of the pipeline
+	 * @param customLines
+	 *            the map that receives the heading lines with author-written anchor IDs
+	 * @return the content without generated heading anchor IDs
+	 */
+	static String stripAnchors(String content, SlugStrategy slugStrategy,
+		Map<Integer, String> customLines)
+	{
+		if (!content.contains("{#"))
+		{
+			return content;
+		}
+		String[] lines = content.split("\n", -1);
+		for (int i = 0; i < lines.length; i++)
+		{
+			String line = lines[i];
+			if (!line.contains("{#"))
+			{
+				continue;
+			}
+			Matcher matcher = ANCHORED_HEADING.matcher(line);
+			if (!matcher.matches())
+			{
+				continue;
+			}
+			String heading = matcher.group(1);
+			int end = heading.length();
+			while (end > 0 && heading.charAt(end - 1) <= ' ')
+			{
+				end--;
+			}
+			if (!matcher.group(2).equals(slugStrategy.toSlug(heading.substring(0, end))))
+			{
+				customLines.put(i, line);
+			}
+			lines[i] = line.substring(0, matcher.end(1));
+		}
+		return String.join("\n", lines);
+	}
+
+	/**
+	 * Puts the given heading lines back into the anchored content by their line index
+	 *
+	 * @param anchored
+	 *            the content produced by the pipeline
+	 * @param customLines
+	 *            the heading lines with author-written anchor IDs by their line index
+	 * @return the anchored content with the original heading lines
+	 */
+	static String restoreLines(String anchored, Map<Integer, String> customLines)
+	{
+		if (customLines.isEmpty())
+		{
+			return anchored;
+		}
+		String[] lines = anchored.split("\n", -1);
+		customLines.forEach((index, line) -> lines[index] = line);
+		return String.join("\n", lines);
+	}
+
+	/**
+	 * A file to process and the file to write the result to
+	 */
+	private record Job(Path source, Path target)
+	{
+	}
+}
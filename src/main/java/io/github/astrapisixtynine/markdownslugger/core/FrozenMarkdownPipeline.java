@@ -0,0 +1,158 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.core;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import io.github.astrapisixtynine.markdownslugger.metrics.PipelineMetricsListener;
+
+/**
+ * Immutable, thread safe snapshot of a {@link MarkdownProcessor} created with
+ * {@link MarkdownProcessor#freeze()}
+ *
+ * The steps and the metrics listener are fixed when the pipeline is frozen. A single instance can
+ * process any number of documents concurrently as long as every thread uses its own
+ * {@link MarkdownContext} and the steps themselves are thread safe, which holds for all steps of
+ * this library when their {@link io.github.astrapisixtynine.markdownslugger.slug.SlugStrategy} is
+ * thread safe. Combined with a {@link MarkdownContextPool}, a server needs neither a new processor
+ * nor a new context per request
+ */
+public final class FrozenMarkdownPipeline
+{
+	/**
+	 * The steps in pipeline order
+	 */
+	private final List<MarkdownProcessingStep> steps;
+
+	/**
+	 * The listener that receives the measurements of every step
+	 */
+	private final PipelineMetricsListener metricsListener;
+
+	/**
+	 * The cached step indices needed per set of requested artifacts
+	 */
+	private final ConcurrentHashMap<Set<PipelineArtifact>, int[]> plans = new ConcurrentHashMap<>();
+
+	FrozenMarkdownPipeline(List<MarkdownProcessingStep> steps,
+		PipelineMetricsListener metricsListener)
+	{
+		this.steps = List.copyOf(steps);
+		this.metricsListener = metricsListener;
+	}
+
+	/**
+	 * Runs all steps in order on the given context
+	 *
+	 * @param context
+	 *            the MarkdownContext to be processed and enriched
+	 */
+	public void process(MarkdownContext context)
+	{
+		for (int i = 0; i < steps.size(); i++)
+		{
+			MarkdownProcessor.runStep(steps.get(i), i, context, metricsListener);
+		}
+	}
+
+	/**
+	 * Runs only the steps needed for the requested artifacts on the given context
+	 *
+	 * @param context
+	 *            the MarkdownContext to be processed and enriched
+	 * @param requested
+	 *            the artifacts the caller reads
+	 */
+	public void process(MarkdownContext context, Set<PipelineArtifact> requested)
+	{
+		EnumSet<PipelineArtifact> key = EnumSet.noneOf(PipelineArtifact.class);
+		key.addAll(requested);
+		int[] plan = plans.computeIfAbsent(key,
+			artifacts -> MarkdownProcessor.computePlan(steps, artifacts));
+		for (int index : plan)
+		{
+			MarkdownProcessor.runStep(steps.get(index), index, context, metricsListener);
+		}
+	}
+
+	/**
+	 * Processes the given content with a pooled context and returns the result of the reader, the
+	 * context is released to the pool afterwards and must not escape the reader
+	 *
+	 * The heading, level and slug lists of the context are views of its reused buffers. If the
+	 * reader returns one of them, an immutable copy is returned instead; lists nested in other
+	 * results must be copied by the reader
+	 *
+	 * @param <R>
+	 *            the type of the result
+	 * @param content
+	 *            the Markdown content
+	 * @param pool
+	 *            the pool to borrow the context from
+	 * @param reader
+	 *            the function that reads the result from the processed context
+	 * @return the result of the reader
+	 */
+	public <R> R process(String content, MarkdownContextPool pool,
+		Function<? super MarkdownContext, ? extends R> reader)
+	{
+		MarkdownContext context = pool.acquire();
+		try
+		{
+			context.originalContent = content;
+			process(context);
+			return detach(reader.apply(context), context);
+		}
+		finally
+		{
+			pool.release(context);
+		}
+	}
+
+	/**
+	 * Copies the result if it is one of the lists of the context, which become stale once the
+	 * context is reset
+	 */
+	@SuppressWarnings("unchecked")
+	private static <R> R detach(R result, MarkdownContext context)
+	{
+		if (result != null && (result == context.headings || result == context.headingLevels
+			|| result == context.slugs))
+		{
+			return (R)List.copyOf((List<?>)result);
+		}
+		return result;
+	}
+
+	/** @return the steps in pipeline order */
+	public List<MarkdownProcessingStep> getSteps()
+	{
+		return steps;
+	}
+}
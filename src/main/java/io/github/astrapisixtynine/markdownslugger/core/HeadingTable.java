@@ -0,0 +1,490 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.core;
+
+import java.nio.CharBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Compact, offset based table of the headings of a Markdown document
+ *
+ * Each heading is stored as a level byte, the start and end offsets of its line and the start and
+ * end offsets of its text in the source content. Slugs are stored back to back in a single shared
+ * character buffer. All columns are growable primitive arrays, so a document with tens of thousands
+ * of headings needs only a handful of objects. Heading texts and slugs are materialized as strings
+ * only when they are requested.
+ */
+public final class HeadingTable
+{
+	/**
+	 * The initial number of rows the columns can hold
+	 */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * The content the heading offsets refer to
+	 */
+	private CharSequence source = "";
+
+	/**
+	 * The number of headings in the table
+	 */
+	private int size;
+
+	/**
+	 * The heading level of each heading
+	 */
+	private byte[] levels = new byte[INITIAL_CAPACITY];
+
+	/**
+	 * The inclusive start offset of the line of each heading in the source
+	 */
+	private int[] lineStarts = new int[INITIAL_CAPACITY];
+
+	/**
+	 * The exclusive end offset of the line of each heading in the source, excluding the line feed
+	 */
+	private int[] lineEnds = new int[INITIAL_CAPACITY];
+
+	/**
+	 * The inclusive start offset of each heading text in the source
+	 */
+	private int[] starts = new int[INITIAL_CAPACITY];
+
+	/**
+	 * The exclusive end offset of each heading text in the source
+	 */
+	private int[] ends = new int[INITIAL_CAPACITY];
+
+	/**
+	 * The number of slugs in the table, slugs are added in heading order
+	 */
+	private int slugCount;
+
+	/**
+	 * The characters of all slugs stored back to back
+	 */
+	private char[] slugChars = new char[INITIAL_CAPACITY * 16];
+
+	/**
+	 * The exclusive end offset of each slug in the slug buffer
+	 */
+	private int[] slugEnds = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Read-only view of the heading texts
+	 */
+	private final List<String> headingView = new TableView<>()
+	{
+		@Override
+		public String get(int index)
+		{
+			return heading(index);
+		}
+
+		@Override
+		public int size()
+		{
+			return size;
+		}
+	};
+
+	/**
+	 * Read-only view of the heading levels
+	 */
+	private final List<Integer> levelView = new TableView<>()
+	{
+		@Override
+		public Integer get(int index)
+		{
+			return level(index);
+		}
+
+		@Override
+		public int size()
+		{
+			return size;
+		}
+	};
+
+	/**
+	 * Read-only view of the slugs
+	 */
+	private final List<String> slugView = new TableView<>()
+	{
+		@Override
+		public String get(int index)
+		{
+			return slug(index);
+		}
+
+		@Override
+		public int size()
+		{
+			return slugCount;
+		}
+	};
+
+	/**
+	 * Removes all headings and slugs and sets the content the offsets of new headings refer to,
+	 * the backing arrays are kept for reuse
+	 *
+	 * @param source
+	 *            the content the heading offsets refer to
+	 */
+	public void reset(CharSequence source)
+	{
+		this.source = source;
+		this.size = 0;
+		this.slugCount = 0;
+	}
+
+	/**
+	 * Removes all slugs but keeps the headings, e.g. to replace the slugs with unique ones
+	 */
+	public void clearSlugs()
+	{
+		this.slugCount = 0;
+	}
+
+	/**
+	 * Appends a heading
+	 *
+	 * @param level
+	 *            the heading level between 1 and 6
+	 * @param lineStart
+	 *            the inclusive start offset of the heading line in the source
+	 * @param lineEnd
+	 *            the exclusive end offset of the heading line in the source, excluding the line
+	 *            feed
+	 * @param start
+	 *            the inclusive start offset of the heading text in the source
+	 * @param end
+	 *            the exclusive end offset of the heading text in the source
+	 */
+	public void add(int level, int lineStart, int lineEnd, int start, int end)
+	{
+		ensureCapacity(size + 1);
+		levels[size] = (byte)level;
+		lineStarts[size] = lineStart;
+		lineEnds[size] = lineEnd;
+		starts[size] = start;
+		ends[size] = end;
+		size++;
+	}
+
+	/**
+	 * Appends all headings of another table whose offsets refer to the same source, e.g. the
+	 * table of a later chunk of the content
+	 *
+	 * @param other
+	 *            the table whose headings are appended
+	 */
+	public void addAll(HeadingTable other)
+	{
+		int count = other.size;
+		ensureCapacity(size + count);
+		System.arraycopy(other.levels, 0, levels, size, count);
+		System.arraycopy(other.lineStarts, 0, lineStarts, size, count);
+		System.arraycopy(other.lineEnds, 0, lineEnds, size, count);
+		System.arraycopy(other.starts, 0, starts, size, count);
+		System.arraycopy(other.ends, 0, ends, size, count);
+		size += count;
+	}
+
+	private void ensureCapacity(int capacity)
+	{
+		if (capacity > levels.length)
+		{
+			int newCapacity = Math.max(levels.length * 2, capacity);
+			levels = Arrays.copyOf(levels, newCapacity);
+			lineStarts = Arrays.copyOf(lineStarts, newCapacity);
+			lineEnds = Arrays.copyOf(lineEnds, newCapacity);
+			starts = Arrays.copyOf(starts, newCapacity);
+			ends = Arrays.copyOf(ends, newCapacity);
+		}
+	}
+
+	/**
+	 * Appends the slug of the next heading that has no slug yet
+	 *
+	 * @param slug
+	 *            the slug to append
+	 */
+	public void addSlug(CharSequence slug)
+	{
+		int offset = slugCount == 0 ? 0 : slugEnds[slugCount - 1];
+		int length = slug.length();
+		if (offset + length > slugChars.length)
+		{
+			slugChars = Arrays.copyOf(slugChars, Math.max(slugChars.length * 2, offset + length));
+		}
+		if (slug instanceof String string)
+		{
+			string.getChars(0, length, slugChars, offset);
+		}
+		else if (slug instanceof StringBuilder builder)
+		{
+			builder.getChars(0, length, slugChars, offset);
+		}
+		else
+		{
+			for (int i = 0; i < length; i++)
+			{
+				slugChars[offset + i] = slug.charAt(i);
+			}
+		}
+		if (slugCount == slugEnds.length)
+		{
+			slugEnds = Arrays.copyOf(slugEnds, slugCount * 2);
+		}
+		slugEnds[slugCount++] = offset + length;
+	}
+
+	/** @return the content the heading offsets refer to */
+	public CharSequence getSource()
+	{
+		return source;
+	}
+
+	/** @return the number of headings in the table */
+	public int size()
+	{
+		return size;
+	}
+
+	/** @return the number of slugs in the table */
+	public int slugCount()
+	{
+		return slugCount;
+	}
+
+	/**
+	 * Gets the level of a heading
+	 *
+	 * @param index
+	 *            the index of the heading
+	 * @return the heading level between 1 and 6
+	 */
+	public int level(int index)
+	{
+		return levels[checkIndex(index, size)];
+	}
+
+	/**
+	 * Gets the start offset of the line of a heading
+	 *
+	 * @param index
+	 *            the index of the heading
+	 * @return the inclusive start offset of the heading line in the source
+	 */
+	public int lineStart(int index)
+	{
+		return lineStarts[checkIndex(index, size)];
+	}
+
+	/**
+	 * Gets the end offset of the line of a heading
+	 *
+	 * @param index
+	 *            the index of the heading
+	 * @return the exclusive end offset of the heading line in the source, excluding the line feed
+	 */
+	public int lineEnd(int index)
+	{
+		return lineEnds[checkIndex(index, size)];
+	}
+
+	/**
+	 * Gets the start offset of a heading text
+	 *
+	 * @param index
+	 *            the index of the heading
+	 * @return the inclusive start offset of the heading text in the source
+	 */
+	public int start(int index)
+	{
+		return starts[checkIndex(index, size)];
+	}
+
+	/**
+	 * Gets the end offset of a heading text
+	 *
+	 * @param index
+	 *            the index of the heading
+	 * @return the exclusive end offset of the heading text in the source
+	 */
+	public int end(int index)
+	{
+		return ends[checkIndex(index, size)];
+	}
+
+	/**
+	 * Materializes the text of a heading
+	 *
+	 * @param index
+	 *            the index of the heading
+	 * @return a new string with the heading text
+	 */
+	public String heading(int index)
+	{
+		checkIndex(index, size);
+		return source.subSequence(starts[index], ends[index]).toString();
+	}
+
+	/**
+	 * Appends the text of a heading without materializing it
+	 *
+	 * @param index
+	 *            the index of the heading
+	 * @param out
+	 *            the builder to append to
+	 * @return the given builder
+	 */
+	public StringBuilder appendHeading(int index, StringBuilder out)
+	{
+		checkIndex(index, size);
+		return out.append(source, starts[index], ends[index]);
+	}
+
+	/**
+	 * Gets the text of a heading as a view of the source without copying it
+	 *
+	 * @param index
+	 *            the index of the heading
+	 * @return the heading view
+	 */
+	public CharSequence headingView(int index)
+	{
+		checkIndex(index, size);
+		return CharBuffer.wrap(source, starts[index], ends[index]);
+	}
+
+	/**
+	 * Materializes a slug
+	 *
+	 * @param index
+	 *            the index of the heading
+	 * @return a new string with the slug
+	 */
+	public String slug(int index)
+	{
+		checkIndex(index, slugCount);
+		int start = index == 0 ? 0 : slugEnds[index - 1];
+		return new String(slugChars, start, slugEnds[index] - start);
+	}
+
+	/**
+	 * Appends a slug without materializing it
+	 *
+	 * @param index
+	 *            the index of the heading
+	 * @param out
+	 *            the builder to append to
+	 * @return the given builder
+	 */
+	public StringBuilder appendSlug(int index, StringBuilder out)
+	{
+		checkIndex(index, slugCount);
+		int start = index == 0 ? 0 : slugEnds[index - 1];
+		return out.append(slugChars, start, slugEnds[index] - start);
+	}
+
+	/**
+	 * Gets a slug as a view of the slug buffer without copying it, the view is only valid until
+	 * the slugs of the table change
+	 *
+	 * @param index
+	 *            the index of the heading
+	 * @return the slug view
+	 */
+	public CharSequence slugView(int index)
+	{
+		checkIndex(index, slugCount);
+		int start = index == 0 ? 0 : slugEnds[index - 1];
+		return CharBuffer.wrap(slugChars, start, slugEnds[index] - start);
+	}
+
+	/**
+	 * Gets a read-only view of the heading texts, every access materializes a new string
+	 *
+	 * @return the heading texts in document order
+	 */
+	public List<String> headings()
+	{
+		return headingView;
+	}
+
+	/**
+	 * Gets a read-only view of the heading levels
+	 *
+	 * @return the heading levels in document order
+	 */
+	public List<Integer> levels()
+	{
+		return levelView;
+	}
+
+	/**
+	 * Gets a read-only view of the slugs, every access materializes a new string
+	 *
+	 * @return the slugs in document order
+	 */
+	public List<String> slugs()
+	{
+		return slugView;
+	}
+
+	/**
+	 * Checks whether the given list is one of the views of this table
+	 *
+	 * @param list
+	 *            the list to check
+	 * @return true if the list is backed by this table
+	 */
+	public boolean backs(List<?> list)
+	{
+		return list == headingView || list == levelView || list == slugView;
+	}
+
+	private static int checkIndex(int index, int length)
+	{
+		if (index < 0 || index >= length)
+		{
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+		}
+		return index;
+	}
+
+	/**
+	 * Base class of the read-only list views
+	 */
+	private abstract static class TableView<E> extends AbstractList<E> implements RandomAccess
+	{
+	}
+}
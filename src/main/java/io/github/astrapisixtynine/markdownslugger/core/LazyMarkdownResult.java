@@ -0,0 +1,111 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.core;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The result of {@link MarkdownProcessor#processLazily(String)}, each artifact is computed on its
+ * first access
+ *
+ * Only the steps the accessed artifact depends on are run, and every step runs at most once, so
+ * reading only the slugs never builds the TOC or the anchored copy of the document. Instances are
+ * not thread safe
+ */
+public final class LazyMarkdownResult
+{
+	/**
+	 * The processor whose steps are run
+	 */
+	private final MarkdownProcessor processor;
+
+	/**
+	 * The context the steps operate on
+	 */
+	private final MarkdownContext context;
+
+	/**
+	 * The indices of the steps that already ran
+	 */
+	private final BitSet executed = new BitSet();
+
+	LazyMarkdownResult(MarkdownProcessor processor, MarkdownContext context)
+	{
+		this.processor = processor;
+		this.context = context;
+	}
+
+	/** @return the heading texts */
+	public List<String> getHeadings()
+	{
+		return require(PipelineArtifact.HEADINGS).headings;
+	}
+
+	/** @return the heading levels */
+	public List<Integer> getHeadingLevels()
+	{
+		return require(PipelineArtifact.HEADINGS).headingLevels;
+	}
+
+	/** @return the slugs of the headings */
+	public List<String> getSlugs()
+	{
+		return require(PipelineArtifact.SLUGS).slugs;
+	}
+
+	/** @return the table of contents */
+	public String getToc()
+	{
+		return require(PipelineArtifact.TOC).toc;
+	}
+
+	/** @return the Markdown content with anchor IDs */
+	public String getAnchoredContent()
+	{
+		return require(PipelineArtifact.ANCHORED_CONTENT).originalContent;
+	}
+
+	/**
+	 * Runs all steps that are needed for the given artifact and did not run yet
+	 *
+	 * @param artifact
+	 *            the artifact to compute
+	 * @return the context containing the artifact
+	 */
+	public MarkdownContext require(PipelineArtifact artifact)
+	{
+		for (int index : processor.plan(Set.of(artifact)))
+		{
+			if (!executed.get(index))
+			{
+				executed.set(index);
+				processor.runStep(index, context);
+			}
+		}
+		return context;
+	}
+}
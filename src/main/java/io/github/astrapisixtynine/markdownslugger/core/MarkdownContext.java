@@ -42,22 +42,77 @@ public class MarkdownContext
 	public String originalContent;
 
 	/**
-	 * A list of all heading texts extracted from the Markdown content
+	 * A list of all heading texts extracted from the Markdown content, once headings have been
+	 * extracted this is a read-only view of {@link #headingTable}; steps that edit it assign a
+	 * mutable copy, which the following steps read instead of the table
 	 */
-	public List<String> headings = new ArrayList<>();
+	public List<String> headings;
 
 	/**
-	 * A list of heading levels corresponding to each heading (e.g., 1 for '#', 2 for '##')
+	 * A list of heading levels corresponding to each heading (e.g., 1 for '#', 2 for '##'), once
+	 * headings have been extracted this is a read-only view of {@link #headingTable}
 	 */
-	public List<Integer> headingLevels = new ArrayList<>();
+	public List<Integer> headingLevels;
 
 	/**
-	 * A list of slugs generated from each heading, used for anchors and links
+	 * A list of slugs generated from each heading, used for anchors and links, once slugs have
+	 * been mapped this is a read-only view of {@link #headingTable}
 	 */
-	public List<String> slugs = new ArrayList<>();
+	public List<String> slugs;
+
+	/**
+	 * The compact heading table with levels, source offsets and slugs of all extracted headings
+	 */
+	public HeadingTable headingTable = new HeadingTable();
 
 	/**
 	 * The generated table of contents in Markdown format
 	 */
 	public String toc = "";
+
+	/**
+	 * The initial heading list, kept to be reused after a reset
+	 */
+	private final ArrayList<String> headingBuffer = new ArrayList<>();
+
+	/**
+	 * The initial heading level list, kept to be reused after a reset
+	 */
+	private final ArrayList<Integer> headingLevelBuffer = new ArrayList<>();
+
+	/**
+	 * The initial slug list, kept to be reused after a reset
+	 */
+	private final ArrayList<String> slugBuffer = new ArrayList<>();
+
+	/**
+	 * Creates an empty context
+	 */
+	public MarkdownContext()
+	{
+		this.headings = headingBuffer;
+		this.headingLevels = headingLevelBuffer;
+		this.slugs = slugBuffer;
+	}
+
+	/**
+	 * Resets this context to the state of a new context so it can be reused for another document,
+	 * the backing lists and the arrays of the heading table are kept
+	 */
+	public void reset()
+	{
+		originalContent = null;
+		toc = "";
+		headingBuffer.clear();
+		headingLevelBuffer.clear();
+		slugBuffer.clear();
+		headings = headingBuffer;
+		headingLevels = headingLevelBuffer;
+		slugs = slugBuffer;
+		if (headingTable == null)
+		{
+			headingTable = new HeadingTable();
+		}
+		headingTable.reset("");
+	}
 }
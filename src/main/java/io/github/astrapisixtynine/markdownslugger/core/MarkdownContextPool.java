@@ -0,0 +1,86 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.core;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Thread safe, bounded pool of {@link MarkdownContext} instances
+ *
+ * Released contexts are reset and keep their lists and heading table arrays, so processing many
+ * documents does not allocate a new context and its buffers per document. When the pool is full,
+ * released contexts are dropped, and when it is empty, new contexts are created
+ */
+public final class MarkdownContextPool
+{
+	/**
+	 * The idle contexts
+	 */
+	private final ArrayBlockingQueue<MarkdownContext> idle;
+
+	/**
+	 * Creates a pool
+	 *
+	 * @param maximumIdle
+	 *            the maximum number of idle contexts that are kept
+	 */
+	public MarkdownContextPool(int maximumIdle)
+	{
+		if (maximumIdle < 1)
+		{
+			throw new IllegalArgumentException("maximumIdle must be positive: " + maximumIdle);
+		}
+		this.idle = new ArrayBlockingQueue<>(maximumIdle);
+	}
+
+	/**
+	 * Borrows a context in the state of a new context
+	 *
+	 * @return an idle context or a new one if none is idle
+	 */
+	public MarkdownContext acquire()
+	{
+		MarkdownContext context = idle.poll();
+		return context == null ? new MarkdownContext() : context;
+	}
+
+	/**
+	 * Resets a context and returns it to the pool, the caller must not use it afterwards
+	 *
+	 * @param context
+	 *            the context to release
+	 */
+	public void release(MarkdownContext context)
+	{
+		context.reset();
+		idle.offer(context);
+	}
+
+	/** @return the number of idle contexts */
+	public int getIdleCount()
+	{
+		return idle.size();
+	}
+}
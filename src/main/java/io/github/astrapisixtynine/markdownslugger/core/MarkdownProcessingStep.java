@@ -24,6 +24,9 @@
  */
 package io.github.astrapisixtynine.markdownslugger.core;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Interface for processing steps that operate on a MarkdownContext Implementations should perform a
  * specific transformation or analysis on the Markdown document (e.g., heading extraction, TOC
@@ -38,4 +41,25 @@ public interface MarkdownProcessingStep
 	 *            the MarkdownContext containing data to be analyzed or transformed
 	 */
 	void process(MarkdownContext context);
+
+	/**
+	 * Declares the artifacts this step produces, a step that declares none is never pruned by
+	 * {@link MarkdownProcessor#process(MarkdownContext, Set)}
+	 *
+	 * @return the produced artifacts, empty by default
+	 */
+	default Set<PipelineArtifact> produces()
+	{
+		return Set.of();
+	}
+
+	/**
+	 * Declares the artifacts this step reads, the steps producing them are run before this step
+	 *
+	 * @return the consumed artifacts, all artifacts by default
+	 */
+	default Set<PipelineArtifact> consumes()
+	{
+		return EnumSet.allOf(PipelineArtifact.class);
+	}
 }
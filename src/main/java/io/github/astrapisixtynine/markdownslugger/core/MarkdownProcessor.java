@@ -24,11 +24,26 @@
  */
 package io.github.astrapisixtynine.markdownslugger.core;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import io.github.astrapisixtynine.markdownslugger.metrics.PipelineMetricsListener;
+import io.github.astrapisixtynine.markdownslugger.metrics.StepMetrics;
+import io.github.astrapisixtynine.markdownslugger.metrics.ThreadAllocations;
 import io.github.astrapisixtynine.markdownslugger.pipeline.AnchorIdInjector;
+import io.github.astrapisixtynine.markdownslugger.pipeline.FusedHeadingProcessor;
 import io.github.astrapisixtynine.markdownslugger.pipeline.HeadingExtractor;
+import io.github.astrapisixtynine.markdownslugger.pipeline.StreamingHeadingProcessor;
 import io.github.astrapisixtynine.markdownslugger.pipeline.TocGenerator;
 import io.github.astrapisixtynine.markdownslugger.slug.SlugMapper;
 import io.github.astrapisixtynine.markdownslugger.slug.SlugStrategy;
@@ -49,6 +64,16 @@ public class MarkdownProcessor
 	 */
 	private final List<MarkdownProcessingStep> steps = new ArrayList<>();
 
+	/**
+	 * The listener that receives the measurements of every step
+	 */
+	private PipelineMetricsListener metricsListener = PipelineMetricsListener.noOp();
+
+	/**
+	 * The cached step indices needed per set of requested artifacts
+	 */
+	private final Map<Set<PipelineArtifact>, int[]> plans = new ConcurrentHashMap<>();
+
 	/**
 	 * Adds a new processing step to the Markdown pipeline
 	 *
@@ -59,6 +84,23 @@ public class MarkdownProcessor
 	public MarkdownProcessor addStep(MarkdownProcessingStep step)
 	{
 		steps.add(step);
+		plans.clear();
+		return this;
+	}
+
+	/**
+	 * Sets the listener that receives the wall time, processed chars and headings and optionally
+	 * the allocated bytes of every step
+	 *
+	 * @param metricsListener
+	 *            the listener, {@link PipelineMetricsListener#noOp()} disables the measurements
+	 * @return the MarkdownProcessor instance, enabling fluent chaining
+	 */
+	public MarkdownProcessor withMetricsListener(PipelineMetricsListener metricsListener)
+	{
+		this.metricsListener = metricsListener == null
+			? PipelineMetricsListener.noOp()
+			: metricsListener;
 		return this;
 	}
 
@@ -70,10 +112,152 @@ public class MarkdownProcessor
 	 */
 	public void process(MarkdownContext context)
 	{
-		for (MarkdownProcessingStep step : steps)
+		PipelineMetricsListener listener = metricsListener;
+		if (listener == PipelineMetricsListener.noOp())
+		{
+			for (MarkdownProcessingStep step : steps)
+			{
+				step.process(context);
+			}
+			return;
+		}
+		for (int i = 0; i < steps.size(); i++)
+		{
+			runStep(i, context);
+		}
+	}
+
+	/**
+	 * Runs only the steps needed for the requested artifacts on the given context, steps whose
+	 * declared outputs are neither requested nor consumed by a later needed step are skipped
+	 *
+	 * @param context
+	 *            the MarkdownContext to be processed and enriched
+	 * @param requested
+	 *            the artifacts the caller reads
+	 */
+	public void process(MarkdownContext context, Set<PipelineArtifact> requested)
+	{
+		for (int index : plan(requested))
+		{
+			runStep(index, context);
+		}
+	}
+
+	/**
+	 * Creates an immutable snapshot of this pipeline that can be shared between threads, later
+	 * changes to this processor do not affect the snapshot
+	 *
+	 * @return the frozen pipeline
+	 */
+	public FrozenMarkdownPipeline freeze()
+	{
+		return new FrozenMarkdownPipeline(steps, metricsListener);
+	}
+
+	/**
+	 * Prepares the given content for lazy processing, every artifact is computed on its first
+	 * access by running only the steps it needs
+	 *
+	 * @param content
+	 *            the Markdown content
+	 * @return the lazily computed result
+	 */
+	public LazyMarkdownResult processLazily(String content)
+	{
+		MarkdownContext context = new MarkdownContext();
+		context.originalContent = content;
+		return new LazyMarkdownResult(this, context);
+	}
+
+	/**
+	 * Gets the indices of the steps needed for the requested artifacts in pipeline order
+	 */
+	int[] plan(Set<PipelineArtifact> requested)
+	{
+		EnumSet<PipelineArtifact> key = EnumSet.noneOf(PipelineArtifact.class);
+		key.addAll(requested);
+		return plans.computeIfAbsent(key, artifacts -> computePlan(steps, artifacts));
+	}
+
+	/**
+	 * Walks the steps backwards and keeps every step that produces a needed artifact or declares
+	 * no outputs, the inputs of kept steps become needed for the earlier steps
+	 */
+	static int[] computePlan(List<MarkdownProcessingStep> steps, Set<PipelineArtifact> requested)
+	{
+		EnumSet<PipelineArtifact> needed = EnumSet.noneOf(PipelineArtifact.class);
+		needed.addAll(requested);
+		boolean[] kept = new boolean[steps.size()];
+		int count = 0;
+		for (int i = steps.size() - 1; i >= 0; i--)
+		{
+			MarkdownProcessingStep step = steps.get(i);
+			Set<PipelineArtifact> produced = step.produces();
+			if (produced.isEmpty() || !Collections.disjoint(produced, needed))
+			{
+				kept[i] = true;
+				count++;
+				needed.removeAll(produced);
+				needed.addAll(step.consumes());
+			}
+		}
+		int[] plan = new int[count];
+		for (int i = 0, j = 0; i < kept.length; i++)
+		{
+			if (kept[i])
+			{
+				plan[j++] = i;
+			}
+		}
+		return plan;
+	}
+
+	/**
+	 * Runs a single step and reports its measurements to the listener
+	 */
+	void runStep(int index, MarkdownContext context)
+	{
+		runStep(steps.get(index), index, context, metricsListener);
+	}
+
+	/**
+	 * Runs a step and reports its measurements to the given listener
+	 */
+	static void runStep(MarkdownProcessingStep step, int index, MarkdownContext context,
+		PipelineMetricsListener listener)
+	{
+		if (listener == PipelineMetricsListener.noOp())
 		{
 			step.process(context);
+			return;
 		}
+		boolean allocationTracking = listener.isAllocationTrackingEnabled();
+		long characters = context.originalContent == null ? 0 : context.originalContent.length();
+		int headingsBefore = context.headings == null ? 0 : context.headings.size();
+		long allocatedBefore = allocationTracking ? ThreadAllocations.current() : -1;
+		long start = System.nanoTime();
+		step.process(context);
+		long duration = System.nanoTime() - start;
+		long allocated = allocatedBefore < 0 ? -1 : ThreadAllocations.current() - allocatedBefore;
+		int headingsAfter = context.headings == null ? 0 : context.headings.size();
+		// a step that shrinks the headings replaced them, all remaining ones are its own
+		int headings = headingsAfter >= headingsBefore
+			? headingsAfter - headingsBefore
+			: headingsAfter;
+		listener.stepCompleted(
+			new StepMetrics(index, stepName(step), duration, characters, headings, allocated));
+	}
+
+	/**
+	 * Gets the name a step is reported under, lambdas and anonymous classes have no usable simple
+	 * name and are reported as {@code step}
+	 */
+	private static String stepName(MarkdownProcessingStep step)
+	{
+		Class<?> type = step.getClass();
+		String name = type.getSimpleName();
+		return type.isHidden() || name.isEmpty() ? "step" : name;
 	}
 
 	/**
@@ -90,4 +274,57 @@ public class MarkdownProcessor
 			.addStep(new SlugMapper(slugStrategy)).addStep(new TocGenerator())
 			.addStep(new AnchorIdInjector());
 	}
+
+	/**
+	 * Creates a pipeline that produces the same results as {@link #defaultPipeline(SlugStrategy)}
+	 * with a single fused step that scans the content only once
+	 *
+	 * @param slugStrategy
+	 *            the strategy to use for generating slugs
+	 * @return a MarkdownProcessor backed by a {@link FusedHeadingProcessor}
+	 */
+	public static MarkdownProcessor fusedPipeline(SlugStrategy slugStrategy)
+	{
+		return new MarkdownProcessor().addStep(new FusedHeadingProcessor(slugStrategy));
+	}
+
+	/**
+	 * Processes a Markdown document in streaming mode, the anchored Markdown is written while the
+	 * input is read and the document is never held in memory as a whole
+	 *
+	 * @param slugStrategy
+	 *            the strategy to use for generating slugs
+	 * @param reader
+	 *            the reader to read the Markdown content from
+	 * @param writer
+	 *            the writer to write the anchored Markdown content to
+	 * @return a context with the extracted headings, levels, slugs and TOC
+	 * @throws IOException
+	 *             if reading or writing fails
+	 */
+	public static MarkdownContext processStreaming(SlugStrategy slugStrategy, Reader reader,
+		Writer writer) throws IOException
+	{
+		return new StreamingHeadingProcessor(slugStrategy).process(reader, writer);
+	}
+
+	/**
+	 * Processes a UTF-8 encoded Markdown document in streaming mode, the anchored Markdown is
+	 * written while the input is read and the document is never held in memory as a whole
+	 *
+	 * @param slugStrategy
+	 *            the strategy to use for generating slugs
+	 * @param input
+	 *            the stream to read the Markdown content from
+	 * @param output
+	 *            the stream to write the anchored Markdown content to
+	 * @return a context with the extracted headings, levels, slugs and TOC
+	 * @throws IOException
+	 *             if reading or writing fails
+	 */
+	public static MarkdownContext processStreaming(SlugStrategy slugStrategy, InputStream input,
+		OutputStream output) throws IOException
+	{
+		return new StreamingHeadingProcessor(slugStrategy).process(input, output);
+	}
 }
@@ -0,0 +1,96 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.incremental;
+
+/**
+ * Describes the lines affected by an edit of an {@link IncrementalDocument}
+ */
+public final class DocumentChange
+{
+	/**
+	 * The index of the first line that was replaced
+	 */
+	private final int firstLine;
+
+	/**
+	 * The number of lines that were removed starting at the first line
+	 */
+	private final int removedLines;
+
+	/**
+	 * The number of lines that were inserted starting at the first line
+	 */
+	private final int insertedLines;
+
+	/**
+	 * Whether the headings, their levels or their slugs changed
+	 */
+	private final boolean headingsChanged;
+
+	/**
+	 * Constructs a DocumentChange
+	 *
+	 * @param firstLine
+	 *            the index of the first line that was replaced
+	 * @param removedLines
+	 *            the number of lines that were removed starting at the first line
+	 * @param insertedLines
+	 *            the number of lines that were inserted starting at the first line
+	 * @param headingsChanged
+	 *            whether the headings, their levels or their slugs changed
+	 */
+	public DocumentChange(int firstLine, int removedLines, int insertedLines,
+		boolean headingsChanged)
+	{
+		this.firstLine = firstLine;
+		this.removedLines = removedLines;
+		this.insertedLines = insertedLines;
+		this.headingsChanged = headingsChanged;
+	}
+
+	/** @return the index of the first line that was replaced */
+	public int getFirstLine()
+	{
+		return firstLine;
+	}
+
+	/** @return the number of lines that were removed starting at the first line */
+	public int getRemovedLines()
+	{
+		return removedLines;
+	}
+
+	/** @return the number of lines that were inserted starting at the first line */
+	public int getInsertedLines()
+	{
+		return insertedLines;
+	}
+
+	/** @return true if the headings, and therefore the TOC, changed */
+	public boolean isHeadingsChanged()
+	{
+		return headingsChanged;
+	}
+}
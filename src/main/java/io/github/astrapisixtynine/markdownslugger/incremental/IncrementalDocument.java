@@ -0,0 +1,564 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.incremental;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.pipeline.HeadingLineParser;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugStrategy;
+
+/**
+ * A processed Markdown document that can be edited incrementally, e.g. from a live editor preview
+ *
+ * The document is kept as a list of immutable blocks of classified lines. Every block knows its
+ * length, so an edit locates its lines by skipping whole blocks, re-scans and re-slugs only the
+ * lines it touches and replaces only the blocks that contain them; offsets of later lines are never
+ * updated. The cost of an edit therefore depends on the size of the edit and the block size rather
+ * than on the size of the document. Heading recognition in this library is local to a single line,
+ * so no edit ever requires a full rebuild. Every block caches its anchored lines and TOC entries,
+ * so the anchored content and the TOC only render the blocks an edit replaced. All results are
+ * identical to running the default pipeline on the current content. Instances are not thread-safe.
+ */
+public class IncrementalDocument
+{
+	/**
+	 * The default maximum number of lines of a block
+	 */
+	static final int DEFAULT_BLOCK_SIZE = 256;
+
+	/**
+	 * The strategy used to convert headings into URL-friendly slugs
+	 */
+	private final SlugStrategy slugStrategy;
+
+	/**
+	 * The maximum number of lines of a block
+	 */
+	private final int blockSize;
+
+	/**
+	 * The blocks of the document in order, never empty, the line feeds between lines are implicit
+	 */
+	private final ArrayList<Block> blocks = new ArrayList<>();
+
+	/**
+	 * The number of lines of the content
+	 */
+	private int lineCount;
+
+	/**
+	 * The length of the content
+	 */
+	private int length;
+
+	/**
+	 * The cached TOC, or null if the headings changed since it was built
+	 */
+	private String toc;
+
+	/**
+	 * Constructs an IncrementalDocument and processes the given content
+	 *
+	 * @param slugStrategy
+	 *            the strategy to use for generating slugs from headings
+	 * @param content
+	 *            the initial Markdown content
+	 */
+	public IncrementalDocument(SlugStrategy slugStrategy, String content)
+	{
+		this(slugStrategy, content, DEFAULT_BLOCK_SIZE);
+	}
+
+	IncrementalDocument(SlugStrategy slugStrategy, String content, int blockSize)
+	{
+		this.slugStrategy = slugStrategy;
+		this.blockSize = blockSize;
+		reset(content);
+	}
+
+	/**
+	 * Replaces the whole content and processes it from scratch
+	 *
+	 * @param content
+	 *            the new Markdown content
+	 */
+	public void rebuild(String content)
+	{
+		reset(content);
+	}
+
+	private void reset(String content)
+	{
+		List<Line> lines = classify(content);
+		blocks.clear();
+		addBlocks(0, lines);
+		lineCount = lines.size();
+		length = content.length();
+		toc = null;
+	}
+
+	/**
+	 * Applies a text edit and re-processes only the lines touched by it
+	 *
+	 * @param offset
+	 *            the offset in the current content at which the edit starts
+	 * @param removedLength
+	 *            the number of characters removed at the offset
+	 * @param insertedText
+	 *            the text inserted at the offset
+	 * @return a description of the lines affected by the edit
+	 * @throws IndexOutOfBoundsException
+	 *             if the edit does not lie within the current content
+	 */
+	public DocumentChange applyEdit(int offset, int removedLength, String insertedText)
+	{
+		Objects.checkFromIndexSize(offset, removedLength, length);
+		Position first = locate(offset);
+		Position last = removedLength == 0 ? first : locate(offset + removedLength);
+		List<Line> firstLines = blocks.get(first.block()).lines;
+		List<Line> lastLines = blocks.get(last.block()).lines;
+		String region = firstLines.get(first.line()).text.substring(0,
+			offset - first.lineStart()) + insertedText
+			+ lastLines.get(last.line()).text.substring(offset + removedLength - last.lineStart());
+		List<Line> inserted = classify(region);
+
+		List<Line> replaced = new ArrayList<>();
+		for (int b = first.block(); b <= last.block(); b++)
+		{
+			List<Line> lines = blocks.get(b).lines;
+			replaced.addAll(lines.subList(b == first.block() ? first.line() : 0,
+				b == last.block() ? last.line() + 1 : lines.size()));
+		}
+		boolean headingsChanged = !sameHeadings(replaced, inserted);
+
+		// the untouched lines of the first and the last block are moved into the new blocks
+		List<Line> patched = new ArrayList<>(firstLines.subList(0, first.line()));
+		patched.addAll(inserted);
+		patched.addAll(lastLines.subList(last.line() + 1, lastLines.size()));
+		blocks.subList(first.block(), last.block() + 1).clear();
+		addBlocks(first.block(), patched);
+		lineCount += inserted.size() - replaced.size();
+		length += insertedText.length() - removedLength;
+		if (headingsChanged)
+		{
+			toc = null;
+		}
+		return new DocumentChange(first.index(), replaced.size(), inserted.size(),
+			headingsChanged);
+	}
+
+	/** @return the current Markdown content */
+	public String getContent()
+	{
+		StringBuilder content = new StringBuilder(length);
+		for (Block block : blocks)
+		{
+			for (Line line : block.lines)
+			{
+				content.append(line.text).append('\n');
+			}
+		}
+		content.setLength(length);
+		return content.toString();
+	}
+
+	/** @return the number of lines of the current content */
+	public int getLineCount()
+	{
+		return lineCount;
+	}
+
+	/**
+	 * Gets a line of the anchored content, heading lines carry their anchor ID
+	 *
+	 * @param index
+	 *            the index of the line
+	 * @return the anchored line without line feed
+	 */
+	public String getAnchoredLine(int index)
+	{
+		Objects.checkIndex(index, lineCount);
+		int first = 0;
+		for (Block block : blocks)
+		{
+			if (index < first + block.lines.size())
+			{
+				return block.lines.get(index - first).anchored();
+			}
+			first += block.lines.size();
+		}
+		throw new IllegalStateException("line count out of sync: " + lineCount);
+	}
+
+	/** @return the heading texts in document order */
+	public List<String> getHeadings()
+	{
+		List<String> headings = new ArrayList<>();
+		forEachHeading(line -> headings.add(line.heading));
+		return headings;
+	}
+
+	/** @return the heading levels in document order */
+	public List<Integer> getHeadingLevels()
+	{
+		List<Integer> levels = new ArrayList<>();
+		forEachHeading(line -> levels.add(line.level));
+		return levels;
+	}
+
+	/** @return the slugs in document order */
+	public List<String> getSlugs()
+	{
+		List<String> slugs = new ArrayList<>();
+		forEachHeading(line -> slugs.add(line.slug));
+		return slugs;
+	}
+
+	/**
+	 * Gets the Markdown TOC, rebuilt only if the headings changed since the last call and then only
+	 * from the entries of blocks that were replaced since they were rendered
+	 *
+	 * @return the Markdown TOC
+	 */
+	public String getToc()
+	{
+		if (toc == null)
+		{
+			StringBuilder tocBuilder = new StringBuilder();
+			for (Block block : blocks)
+			{
+				tocBuilder.append(block.toc());
+			}
+			toc = tocBuilder.toString();
+		}
+		return toc;
+	}
+
+	/**
+	 * Gets the content with anchor IDs as produced by the default pipeline, every line is
+	 * terminated by a line feed and trailing empty lines are dropped
+	 *
+	 * @return the anchored content
+	 */
+	public String getAnchoredContent()
+	{
+		// the last block and line that are not followed by empty lines only
+		int endBlock = blocks.size() - 1;
+		int endLine = blocks.get(endBlock).lines.size();
+		while (endLine == 0 || blocks.get(endBlock).lines.get(endLine - 1).text.isEmpty())
+		{
+			if (endLine > 0)
+			{
+				endLine--;
+			}
+			else if (endBlock > 0)
+			{
+				endLine = blocks.get(--endBlock).lines.size();
+			}
+			else
+			{
+				return length == 0 ? "\n" : "";
+			}
+		}
+		StringBuilder anchored = new StringBuilder(length + 64);
+		for (int b = 0; b < endBlock; b++)
+		{
+			anchored.append(blocks.get(b).anchored());
+		}
+		List<Line> lines = blocks.get(endBlock).lines;
+		if (endLine == lines.size())
+		{
+			anchored.append(blocks.get(endBlock).anchored());
+		}
+		else
+		{
+			for (int i = 0; i < endLine; i++)
+			{
+				anchored.append(lines.get(i).anchored()).append('\n');
+			}
+		}
+		return anchored.toString();
+	}
+
+	/**
+	 * Creates a context with the same state the default pipeline would produce for the current
+	 * content
+	 *
+	 * @return a new MarkdownContext
+	 */
+	public MarkdownContext toContext()
+	{
+		MarkdownContext context = new MarkdownContext();
+		context.headings = getHeadings();
+		context.headingLevels = getHeadingLevels();
+		context.slugs = getSlugs();
+		context.toc = getToc();
+		context.originalContent = getAnchoredContent();
+		return context;
+	}
+
+	/**
+	 * Splits the given lines into blocks and inserts them at the given block index
+	 */
+	private void addBlocks(int index, List<Line> lines)
+	{
+		List<Block> created = new ArrayList<>();
+		for (int from = 0; from < lines.size(); from += blockSize)
+		{
+			created.add(new Block(lines.subList(from, Math.min(lines.size(), from + blockSize))));
+		}
+		blocks.addAll(index, created);
+	}
+
+	private void forEachHeading(Consumer<Line> action)
+	{
+		for (Block block : blocks)
+		{
+			if (block.headingCount > 0)
+			{
+				for (Line line : block.lines)
+				{
+					if (line.level > 0)
+					{
+						action.accept(line);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Splits the given text at line feeds and classifies every line
+	 */
+	private List<Line> classify(String text)
+	{
+		List<Line> classified = new ArrayList<>();
+		int lineStart = 0;
+		while (true)
+		{
+			int lineEnd = text.indexOf('\n', lineStart);
+			classified.add(classifyLine(lineEnd < 0 ? text.substring(lineStart)
+				: text.substring(lineStart, lineEnd)));
+			if (lineEnd < 0)
+			{
+				return classified;
+			}
+			lineStart = lineEnd + 1;
+		}
+	}
+
+	private Line classifyLine(String text)
+	{
+		int level = HeadingLineParser.lineLevel(text, 0, text.length());
+		if (level == 0)
+		{
+			return new Line(text, 0, 0, null, null);
+		}
+		int trimmedStart = HeadingLineParser.trimStart(text, 0, text.length());
+		int trimmedEnd = HeadingLineParser.trimEnd(text, trimmedStart, text.length());
+		String heading = text.substring(trimmedStart + level + 1, trimmedEnd);
+		return new Line(text, level, trimmedStart, heading, slugStrategy.toSlug(heading));
+	}
+
+	private static boolean sameHeadings(List<Line> removed, List<Line> inserted)
+	{
+		int i = 0;
+		int j = 0;
+		while (true)
+		{
+			while (i < removed.size() && removed.get(i).level == 0)
+			{
+				i++;
+			}
+			while (j < inserted.size() && inserted.get(j).level == 0)
+			{
+				j++;
+			}
+			if (i == removed.size() || j == inserted.size())
+			{
+				return i == removed.size() && j == inserted.size();
+			}
+			Line before = removed.get(i++);
+			Line after = inserted.get(j++);
+			if (before.level != after.level || !before.heading.equals(after.heading)
+				|| !before.slug.equals(after.slug))
+			{
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Finds the line that contains the given offset, an offset at a line feed belongs to the line
+	 * the line feed terminates
+	 */
+	private Position locate(int offset)
+	{
+		int block = 0;
+		int blockStart = 0;
+		int firstLine = 0;
+		// the last block also holds the offset at the end of the content
+		while (block < blocks.size() - 1 && offset >= blockStart + blocks.get(block).length)
+		{
+			blockStart += blocks.get(block).length;
+			firstLine += blocks.get(block).lines.size();
+			block++;
+		}
+		List<Line> lines = blocks.get(block).lines;
+		int line = 0;
+		int lineStart = blockStart;
+		while (line < lines.size() - 1 && offset > lineStart + lines.get(line).text.length())
+		{
+			lineStart += lines.get(line).text.length() + 1;
+			line++;
+		}
+		return new Position(block, line, firstLine + line, lineStart);
+	}
+
+	/**
+	 * The location of a line
+	 *
+	 * @param block
+	 *            the index of the block
+	 * @param line
+	 *            the index of the line within the block
+	 * @param index
+	 *            the index of the line within the document
+	 * @param lineStart
+	 *            the offset of the line within the content
+	 */
+	private record Position(int block, int line, int index, int lineStart)
+	{
+	}
+
+	/**
+	 * An immutable run of consecutive lines with its length and lazily rendered output
+	 */
+	private static final class Block
+	{
+		final List<Line> lines;
+
+		/** The number of chars of the lines, each counted with its line feed */
+		final int length;
+
+		final int headingCount;
+
+		/** The anchored lines, each terminated by a line feed, or null until first requested */
+		private String anchored;
+
+		/** The TOC entries of the headings, or null until first requested */
+		private String toc;
+
+		Block(List<Line> lines)
+		{
+			this.lines = List.copyOf(lines);
+			int chars = 0;
+			int headings = 0;
+			for (Line line : this.lines)
+			{
+				chars += line.text.length() + 1;
+				if (line.level > 0)
+				{
+					headings++;
+				}
+			}
+			this.length = chars;
+			this.headingCount = headings;
+		}
+
+		String anchored()
+		{
+			if (anchored == null)
+			{
+				StringBuilder builder = new StringBuilder(length + 16 * headingCount);
+				for (Line line : lines)
+				{
+					builder.append(line.anchored()).append('\n');
+				}
+				anchored = builder.toString();
+			}
+			return anchored;
+		}
+
+		String toc()
+		{
+			if (toc == null)
+			{
+				StringBuilder builder = new StringBuilder();
+				for (Line line : lines)
+				{
+					if (line.level > 0)
+					{
+						builder.append("  ".repeat(line.level - 1)).append("- [")
+							.append(line.heading).append("](#").append(line.slug).append(")\n");
+					}
+				}
+				toc = builder.toString();
+			}
+			return toc;
+		}
+	}
+
+	/**
+	 * A classified line of the document
+	 */
+	private static final class Line
+	{
+		final String text;
+
+		/** The heading level, or 0 if the line is not a heading */
+		final int level;
+
+		/** The offset of the first hash character within the line */
+		final int prefixStart;
+
+		final String heading;
+
+		final String slug;
+
+		Line(String text, int level, int prefixStart, String heading, String slug)
+		{
+			this.text = text;
+			this.level = level;
+			this.prefixStart = prefixStart;
+			this.heading = heading;
+			this.slug = slug;
+		}
+
+		String anchored()
+		{
+			if (level == 0)
+			{
+				return text;
+			}
+			int headingEnd = prefixStart + level + 1 + heading.length();
+			return text.substring(prefixStart, headingEnd) + " {#" + slug + "}";
+		}
+	}
+}
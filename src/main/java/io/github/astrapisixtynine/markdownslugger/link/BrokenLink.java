@@ -0,0 +1,114 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.link;
+
+import java.nio.file.Path;
+
+/**
+ * A fragment link whose target document or anchor does not exist
+ */
+public final class BrokenLink
+{
+	/**
+	 * Why a link is broken
+	 */
+	public enum Reason
+	{
+		/** The linked Markdown document does not exist */
+		MISSING_DOCUMENT,
+
+		/** The linked document has no heading with the fragment as anchor */
+		MISSING_ANCHOR
+	}
+
+	/**
+	 * The document the link is written in
+	 */
+	private final Path source;
+
+	/**
+	 * The broken link
+	 */
+	private final FragmentLink link;
+
+	/**
+	 * Why the link is broken
+	 */
+	private final Reason reason;
+
+	/**
+	 * Constructs a BrokenLink
+	 *
+	 * @param source
+	 *            the document the link is written in
+	 * @param link
+	 *            the broken link
+	 * @param reason
+	 *            why the link is broken
+	 */
+	public BrokenLink(Path source, FragmentLink link, Reason reason)
+	{
+		this.source = source;
+		this.link = link;
+		this.reason = reason;
+	}
+
+	/** @return the document the link is written in */
+	public Path getSource()
+	{
+		return source;
+	}
+
+	/** @return the one based number of the line the link is written on */
+	public int getLine()
+	{
+		return link.getLine();
+	}
+
+	/** @return the broken link */
+	public FragmentLink getLink()
+	{
+		return link;
+	}
+
+	/** @return why the link is broken */
+	public Reason getReason()
+	{
+		return reason;
+	}
+
+	/**
+	 * Formats the broken link as {@code file:line: reason: destination}
+	 *
+	 * @return the formatted broken link
+	 */
+	@Override
+	public String toString()
+	{
+		return source + ":" + link.getLine() + ": "
+			+ (reason == Reason.MISSING_DOCUMENT ? "missing document" : "missing anchor") + ": "
+			+ link.getDestination();
+	}
+}
@@ -0,0 +1,107 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.link;
+
+/**
+ * A Markdown link with a fragment, e.g. {@code [text](other.md#anchor)} or {@code [text](#anchor)}
+ */
+public final class FragmentLink
+{
+	/**
+	 * The one based number of the line the link is written on
+	 */
+	private final int line;
+
+	/**
+	 * The link destination as written in the document
+	 */
+	private final String destination;
+
+	/**
+	 * The decoded path of the linked document, empty for a link into the same document
+	 */
+	private final String path;
+
+	/**
+	 * The decoded fragment without the leading hash sign
+	 */
+	private final String fragment;
+
+	/**
+	 * Constructs a FragmentLink
+	 *
+	 * @param line
+	 *            the one based number of the line the link is written on
+	 * @param destination
+	 *            the link destination as written in the document
+	 * @param path
+	 *            the decoded path of the linked document, empty for a link into the same document
+	 * @param fragment
+	 *            the decoded fragment without the leading hash sign
+	 */
+	public FragmentLink(int line, String destination, String path, String fragment)
+	{
+		this.line = line;
+		this.destination = destination;
+		this.path = path;
+		this.fragment = fragment;
+	}
+
+	/** @return the one based number of the line the link is written on */
+	public int getLine()
+	{
+		return line;
+	}
+
+	/** @return the link destination as written in the document */
+	public String getDestination()
+	{
+		return destination;
+	}
+
+	/** @return the decoded path of the linked document, empty for a link into the same document */
+	public String getPath()
+	{
+		return path;
+	}
+
+	/** @return the decoded fragment without the leading hash sign */
+	public String getFragment()
+	{
+		return fragment;
+	}
+
+	/** @return whether the link points into the document it is written in */
+	public boolean isLocal()
+	{
+		return path.isEmpty();
+	}
+
+	@Override
+	public String toString()
+	{
+		return line + ": " + destination;
+	}
+}
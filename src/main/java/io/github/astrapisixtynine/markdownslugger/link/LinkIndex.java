@@ -0,0 +1,370 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.link;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.astrapisixtynine.markdownslugger.batch.DocumentResult;
+import io.github.astrapisixtynine.markdownslugger.batch.MarkdownBatchProcessor;
+import io.github.astrapisixtynine.markdownslugger.core.HeadingTable;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessor;
+import io.github.astrapisixtynine.markdownslugger.pipeline.HeadingExtractor;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugMapper;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugStrategy;
+
+/**
+ * Index of the heading anchors and fragment links of a corpus of Markdown documents
+ *
+ * Documents are indexed in parallel with a {@link HeadingExtractor} and a {@link SlugMapper}; the
+ * anchor of a heading is its slug, or its explicit ID if the heading ends with {@code {#id}}. The
+ * fragment links of a document are collected in the same pass, so {@link #check()} validates every
+ * link against hashed anchor sets without reading a document again. A document is only
+ * re-processed if its modification time changed since it was indexed. Paths are stored absolute
+ * and normalized. This class is thread-safe.
+ */
+public class LinkIndex
+{
+	/**
+	 * Orders broken links by document and line
+	 */
+	private static final Comparator<BrokenLink> ORDER = Comparator
+		.comparing(BrokenLink::getSource).thenComparingInt(BrokenLink::getLine);
+
+	/**
+	 * Marks a link target that is a Markdown file that does not exist
+	 */
+	private static final IndexedDocument MISSING = new IndexedDocument();
+
+	/**
+	 * Marks a link target that is not indexed and cannot be checked
+	 */
+	private static final IndexedDocument UNCHECKED = new IndexedDocument();
+
+	/**
+	 * The pipeline that extracts the headings and their slugs
+	 */
+	private final MarkdownProcessor processor;
+
+	/**
+	 * The indexed documents by absolute, normalized path
+	 */
+	private final Map<Path, IndexedDocument> documents = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a LinkIndex
+	 *
+	 * @param slugStrategy
+	 *            the strategy the heading anchors are generated with
+	 */
+	public LinkIndex(SlugStrategy slugStrategy)
+	{
+		this.processor = new MarkdownProcessor().addStep(new HeadingExtractor())
+			.addStep(new SlugMapper(slugStrategy));
+	}
+
+	/**
+	 * Indexes the given UTF-8 encoded files in parallel, files that are already indexed and have
+	 * not been modified since are skipped
+	 *
+	 * @param files
+	 *            the Markdown files to index
+	 * @param parallelism
+	 *            the number of worker threads
+	 * @return the files that could not be read or processed, they are removed from the index
+	 * @throws InterruptedException
+	 *             if the calling thread is interrupted while waiting for the workers
+	 */
+	public List<DocumentResult<Path>> index(Collection<Path> files, int parallelism)
+		throws InterruptedException
+	{
+		List<Path> pending = new ArrayList<>();
+		Map<Path, FileTime> modificationTimes = new HashMap<>();
+		for (Path file : files)
+		{
+			Path path = file.toAbsolutePath().normalize();
+			FileTime modificationTime = modificationTime(path);
+			IndexedDocument document = documents.get(path);
+			if (document != null && modificationTime != null
+				&& modificationTime.equals(document.modificationTime))
+			{
+				continue;
+			}
+			pending.add(path);
+			modificationTimes.put(path, modificationTime);
+		}
+		if (pending.isEmpty())
+		{
+			return List.of();
+		}
+		List<DocumentResult<Path>> failures = Collections.synchronizedList(new ArrayList<>());
+		try (MarkdownBatchProcessor batch = MarkdownBatchProcessor.withForkJoinPool(processor,
+			parallelism, parallelism * 4))
+		{
+			batch.processFiles(pending, result -> {
+				Path path = result.getSource();
+				if (result.isSuccess())
+				{
+					documents.put(path,
+						new IndexedDocument(modificationTimes.get(path), result.getContext()));
+				}
+				else
+				{
+					documents.remove(path);
+					failures.add(result);
+				}
+			});
+		}
+		return failures;
+	}
+
+	/**
+	 * Removes a document from the index
+	 *
+	 * @param file
+	 *            the document to remove
+	 */
+	public void remove(Path file)
+	{
+		documents.remove(file.toAbsolutePath().normalize());
+	}
+
+	/**
+	 * Checks whether a document is indexed
+	 *
+	 * @param file
+	 *            the document
+	 * @return true if the document is indexed
+	 */
+	public boolean contains(Path file)
+	{
+		return documents.containsKey(file.toAbsolutePath().normalize());
+	}
+
+	/**
+	 * Gets the heading anchors of a document
+	 *
+	 * @param file
+	 *            the document
+	 * @return the anchors of the document, empty if it is not indexed
+	 */
+	public Set<String> getAnchors(Path file)
+	{
+		IndexedDocument document = documents.get(file.toAbsolutePath().normalize());
+		return document == null ? Set.of() : Collections.unmodifiableSet(document.anchors);
+	}
+
+	/** @return the number of indexed documents */
+	public int size()
+	{
+		return documents.size();
+	}
+
+	/**
+	 * Checks the fragment links of all indexed documents in parallel
+	 *
+	 * A link into an indexed document is broken if the document has no such anchor. A link into a
+	 * document that is not indexed is only reported if it is a Markdown file that does not exist,
+	 * links into other files and absolute paths are not checked.
+	 *
+	 * @return the broken links ordered by document and line
+	 */
+	public List<BrokenLink> check()
+	{
+		return documents.entrySet().parallelStream()
+			.flatMap(entry -> check(entry.getKey(), entry.getValue()).stream()).sorted(ORDER)
+			.toList();
+	}
+
+	private List<BrokenLink> check(Path source, IndexedDocument document)
+	{
+		List<BrokenLink> broken = new ArrayList<>();
+		// links of a document usually point to few documents, each path is resolved only once
+		Map<String, IndexedDocument> targets = new HashMap<>();
+		for (FragmentLink link : document.links)
+		{
+			IndexedDocument target = document;
+			if (!link.isLocal())
+			{
+				if (link.getPath().startsWith("/"))
+				{
+					continue;
+				}
+				target = targets.get(link.getPath());
+				if (target == null)
+				{
+					target = resolve(source, link.getPath());
+					targets.put(link.getPath(), target);
+				}
+				if (target == MISSING)
+				{
+					broken.add(new BrokenLink(source, link, BrokenLink.Reason.MISSING_DOCUMENT));
+				}
+				if (target == MISSING || target == UNCHECKED)
+				{
+					continue;
+				}
+			}
+			if (!target.anchors.contains(link.getFragment()))
+			{
+				broken.add(new BrokenLink(source, link, BrokenLink.Reason.MISSING_ANCHOR));
+			}
+		}
+		return broken;
+	}
+
+	/**
+	 * Resolves a link path against the document it is written in
+	 *
+	 * @return the indexed target document, {@link #MISSING} if the target is a Markdown file that
+	 *         does not exist or {@link #UNCHECKED} if the target cannot be checked
+	 */
+	private IndexedDocument resolve(Path source, String path)
+	{
+		Path targetPath;
+		try
+		{
+			targetPath = source.resolveSibling(path).normalize();
+		}
+		catch (InvalidPathException e)
+		{
+			return MISSING;
+		}
+		IndexedDocument target = documents.get(targetPath);
+		if (target != null)
+		{
+			return target;
+		}
+		return isMarkdown(targetPath) && !Files.exists(targetPath) ? MISSING : UNCHECKED;
+	}
+
+	private static boolean isMarkdown(Path path)
+	{
+		Path fileName = path.getFileName();
+		if (fileName == null)
+		{
+			return false;
+		}
+		String name = fileName.toString();
+		return name.endsWith(".md") || name.endsWith(".markdown");
+	}
+
+	private static FileTime modificationTime(Path path)
+	{
+		try
+		{
+			return Files.getLastModifiedTime(path);
+		}
+		catch (IOException e)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * Gets the anchor of a heading, the explicit ID of a heading ending with {@code {#id}} or its
+	 * slug otherwise
+	 */
+	private static String anchor(HeadingTable table, int index)
+	{
+		CharSequence source = table.getSource();
+		int start = table.start(index);
+		int end = table.end(index);
+		if (source.charAt(end - 1) == '}')
+		{
+			for (int i = end - 2; i > start; i--)
+			{
+				char c = source.charAt(i);
+				if (c == '{')
+				{
+					if (i + 2 < end && source.charAt(i + 1) == '#' && source.charAt(i - 1) == ' ')
+					{
+						return source.subSequence(i + 2, end - 1).toString();
+					}
+					break;
+				}
+				if (c <= ' ' || c == '}')
+				{
+					break;
+				}
+			}
+		}
+		return table.slug(index);
+	}
+
+	/**
+	 * The anchors and fragment links of an indexed document
+	 */
+	private static final class IndexedDocument
+	{
+		/**
+		 * The modification time of the document when it was indexed, null if unknown
+		 */
+		private final FileTime modificationTime;
+
+		/**
+		 * The heading anchors of the document
+		 */
+		private final Set<String> anchors;
+
+		/**
+		 * The fragment links of the document
+		 */
+		private final List<FragmentLink> links;
+
+		private IndexedDocument()
+		{
+			this.modificationTime = null;
+			this.anchors = Set.of();
+			this.links = List.of();
+		}
+
+		private IndexedDocument(FileTime modificationTime, MarkdownContext context)
+		{
+			HeadingTable table = context.headingTable;
+			this.modificationTime = modificationTime;
+			this.anchors = new HashSet<>(Math.max(16, table.size() * 2));
+			for (int i = 0; i < table.size(); i++)
+			{
+				anchors.add(anchor(table, i));
+			}
+			this.links = LinkScanner.scan(context.originalContent);
+		}
+	}
+}
@@ -0,0 +1,208 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.link;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds the fragment links of a Markdown document
+ *
+ * Inline links {@code [text](destination)}, images and link reference definitions
+ * {@code [label]: destination} are recognized. Only destinations with a non empty fragment are
+ * reported, links with a URL scheme such as {@code https:} are skipped. Path and fragment are
+ * percent-decoded.
+ */
+public final class LinkScanner
+{
+	private LinkScanner()
+	{
+	}
+
+	/**
+	 * Scans the given Markdown content for fragment links
+	 *
+	 * @param content
+	 *            the Markdown content
+	 * @return the fragment links in document order
+	 */
+	public static List<FragmentLink> scan(String content)
+	{
+		List<FragmentLink> links = new ArrayList<>();
+		int length = content.length();
+		int lineStart = 0;
+		int line = 1;
+		while (lineStart <= length)
+		{
+			int lineEnd = content.indexOf('\n', lineStart);
+			if (lineEnd < 0)
+			{
+				lineEnd = length;
+			}
+			scanReferenceDefinition(content, lineStart, lineEnd, line, links);
+			scanInlineLinks(content, lineStart, lineEnd, line, links);
+			lineStart = lineEnd + 1;
+			line++;
+		}
+		return links;
+	}
+
+	/**
+	 * Adds the destination of a link reference definition of up to three spaces indentation
+	 */
+	private static void scanReferenceDefinition(String content, int lineStart, int lineEnd,
+		int line, List<FragmentLink> links)
+	{
+		int position = lineStart;
+		while (position < lineEnd && position - lineStart < 3 && content.charAt(position) == ' ')
+		{
+			position++;
+		}
+		if (position == lineEnd || content.charAt(position) != '[')
+		{
+			return;
+		}
+		int labelEnd = content.indexOf(']', position + 1, lineEnd);
+		if (labelEnd < 0 || labelEnd + 1 >= lineEnd || content.charAt(labelEnd + 1) != ':')
+		{
+			return;
+		}
+		addDestination(content, skipSpaces(content, labelEnd + 2, lineEnd), lineEnd, line, links);
+	}
+
+	/**
+	 * Adds the destinations of all inline links and images of a line
+	 */
+	private static void scanInlineLinks(String content, int lineStart, int lineEnd, int line,
+		List<FragmentLink> links)
+	{
+		int position = content.indexOf("](", lineStart, lineEnd);
+		while (position >= 0)
+		{
+			int destinationStart = skipSpaces(content, position + 2, lineEnd);
+			addDestination(content, destinationStart, lineEnd, line, links);
+			position = content.indexOf("](", destinationStart, lineEnd);
+		}
+	}
+
+	/**
+	 * Adds the destination starting at the given position, either enclosed in angle brackets or
+	 * ending before the first space or closing parenthesis
+	 */
+	private static void addDestination(String content, int start, int lineEnd, int line,
+		List<FragmentLink> links)
+	{
+		int end;
+		if (start < lineEnd && content.charAt(start) == '<')
+		{
+			start++;
+			end = content.indexOf('>', start, lineEnd);
+			if (end < 0)
+			{
+				return;
+			}
+		}
+		else
+		{
+			end = start;
+			while (end < lineEnd && content.charAt(end) != ')' && content.charAt(end) > ' ')
+			{
+				end++;
+			}
+		}
+		int hash = content.indexOf('#', start, end);
+		if (hash < 0 || hash == end - 1)
+		{
+			return;
+		}
+		String path = content.substring(start, hash);
+		if (hasScheme(path))
+		{
+			return;
+		}
+		int query = path.indexOf('?');
+		if (query >= 0)
+		{
+			path = path.substring(0, query);
+		}
+		links.add(new FragmentLink(line, content.substring(start, end), decode(path),
+			decode(content.substring(hash + 1, end))));
+	}
+
+	private static int skipSpaces(String content, int position, int lineEnd)
+	{
+		while (position < lineEnd && (content.charAt(position) == ' '
+			|| content.charAt(position) == '\t'))
+		{
+			position++;
+		}
+		return position;
+	}
+
+	/**
+	 * Checks whether the path starts with a URL scheme or is a network path reference
+	 */
+	private static boolean hasScheme(String path)
+	{
+		if (path.startsWith("//"))
+		{
+			return true;
+		}
+		for (int i = 0; i < path.length(); i++)
+		{
+			char c = path.charAt(i);
+			if (c == ':')
+			{
+				return i > 1;
+			}
+			if (!Character.isLetterOrDigit(c) && c != '+' && c != '-' && c != '.')
+			{
+				return false;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Decodes percent-encoded characters, a plus sign is kept as it is
+	 */
+	private static String decode(String text)
+	{
+		if (text.indexOf('%') < 0)
+		{
+			return text;
+		}
+		try
+		{
+			return URLDecoder.decode(text.replace("+", "%2B"), StandardCharsets.UTF_8);
+		}
+		catch (IllegalArgumentException e)
+		{
+			return text;
+		}
+	}
+}
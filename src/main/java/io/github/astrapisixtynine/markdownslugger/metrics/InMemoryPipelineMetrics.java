@@ -0,0 +1,247 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.astrapisixtynine.markdownslugger.slug.CachingSlugStrategy;
+
+/**
+ * Thread safe {@link PipelineMetricsListener} that aggregates the measurements per step in memory
+ *
+ * The aggregates can be read at any time, e.g. by a monitoring endpoint, and rendered with
+ * {@link #report()}. Slug caches registered with
+ * {@link #registerSlugCache(String, CachingSlugStrategy)} are reported with their hit rate
+ */
+public class InMemoryPipelineMetrics implements PipelineMetricsListener
+{
+	/**
+	 * The aggregates per step key in the order the steps were first seen
+	 */
+	private final Map<String, StepStatistics> steps = Collections
+		.synchronizedMap(new LinkedHashMap<>());
+
+	/**
+	 * Fast lookup of the aggregates without taking the lock of {@link #steps}
+	 */
+	private final ConcurrentHashMap<String, StepStatistics> lookup = new ConcurrentHashMap<>();
+
+	/**
+	 * The registered slug caches
+	 */
+	private final Map<String, CachingSlugStrategy> slugCaches = new ConcurrentHashMap<>();
+
+	/**
+	 * Whether allocations are measured
+	 */
+	private final boolean allocationTracking;
+
+	/**
+	 * Creates metrics without allocation tracking
+	 */
+	public InMemoryPipelineMetrics()
+	{
+		this(false);
+	}
+
+	/**
+	 * Creates metrics
+	 *
+	 * @param allocationTracking
+	 *            whether the bytes allocated by every step are measured
+	 */
+	public InMemoryPipelineMetrics(boolean allocationTracking)
+	{
+		this.allocationTracking = allocationTracking;
+	}
+
+	@Override
+	public void stepCompleted(StepMetrics metrics)
+	{
+		String key = metrics.getStepKey();
+		StepStatistics statistics = lookup.get(key);
+		if (statistics == null)
+		{
+			statistics = lookup.computeIfAbsent(key, k -> {
+				StepStatistics created = new StepStatistics(metrics.getStepIndex(),
+					metrics.getStepName());
+				steps.put(k, created);
+				return created;
+			});
+		}
+		statistics.record(metrics);
+	}
+
+	@Override
+	public boolean isAllocationTrackingEnabled()
+	{
+		return allocationTracking;
+	}
+
+	/**
+	 * Registers a slug cache whose hit rate is reported
+	 *
+	 * @param name
+	 *            the name the cache is reported under
+	 * @param cache
+	 *            the cache
+	 */
+	public void registerSlugCache(String name, CachingSlugStrategy cache)
+	{
+		slugCaches.put(name, cache);
+	}
+
+	/**
+	 * Gets the aggregates of all steps
+	 *
+	 * @return a snapshot of the aggregates per step key, see {@link StepMetrics#getStepKey()}, in
+	 *         the order the steps were first seen
+	 */
+	public Map<String, StepStatistics> getStepStatistics()
+	{
+		synchronized (steps)
+		{
+			return new LinkedHashMap<>(steps);
+		}
+	}
+
+	/**
+	 * Gets the hit rates of the registered slug caches
+	 *
+	 * @return the hit rate per cache name
+	 */
+	public Map<String, Double> getSlugCacheHitRates()
+	{
+		Map<String, Double> hitRates = new LinkedHashMap<>();
+		slugCaches.forEach((name, cache) -> hitRates.put(name, cache.getHitRate()));
+		return hitRates;
+	}
+
+	/**
+	 * Renders all aggregates as text, one line per step and cache
+	 *
+	 * @return the report
+	 */
+	public String report()
+	{
+		StringBuilder report = new StringBuilder();
+		for (StepStatistics statistics : getStepStatistics().values())
+		{
+			LatencyHistogram latency = statistics.getLatency();
+			report.append("step ").append(statistics.getStepIndex()).append(':')
+				.append(statistics.getStepName()).append(" count=")
+				.append(latency.getCount()).append(" p50=").append(latency.getPercentile(50))
+				.append("ns p99=").append(latency.getPercentile(99)).append("ns max=")
+				.append(latency.getMax()).append("ns chars=").append(statistics.getCharacters())
+				.append(" headings=").append(statistics.getHeadings());
+			if (statistics.getAllocatedBytes() >= 0)
+			{
+				report.append(" allocated=").append(statistics.getAllocatedBytes()).append('B');
+			}
+			report.append('\n');
+		}
+		getSlugCacheHitRates().forEach((name, hitRate) -> report.append("slug-cache ").append(name)
+			.append(" hitRate=").append(hitRate).append('\n'));
+		return report.toString();
+	}
+
+	/**
+	 * The aggregated measurements of a single step
+	 */
+	public static final class StepStatistics
+	{
+		private final int stepIndex;
+
+		private final String stepName;
+
+		private final LatencyHistogram latency = new LatencyHistogram();
+
+		private final LongAdder characters = new LongAdder();
+
+		private final LongAdder headings = new LongAdder();
+
+		private final LongAdder allocatedBytes = new LongAdder();
+
+		private volatile boolean allocationsMeasured;
+
+		StepStatistics(int stepIndex, String stepName)
+		{
+			this.stepIndex = stepIndex;
+			this.stepName = stepName;
+		}
+
+		void record(StepMetrics metrics)
+		{
+			latency.record(metrics.getDurationNanos());
+			characters.add(metrics.getCharacters());
+			headings.add(metrics.getHeadings());
+			if (metrics.getAllocatedBytes() >= 0)
+			{
+				allocatedBytes.add(metrics.getAllocatedBytes());
+				allocationsMeasured = true;
+			}
+		}
+
+		/** @return the position of the step in the pipeline */
+		public int getStepIndex()
+		{
+			return stepIndex;
+		}
+
+		/** @return the name of the step */
+		public String getStepName()
+		{
+			return stepName;
+		}
+
+		/** @return the histogram of the wall times in nanoseconds */
+		public LatencyHistogram getLatency()
+		{
+			return latency;
+		}
+
+		/** @return the total number of chars of the processed contents */
+		public long getCharacters()
+		{
+			return characters.sum();
+		}
+
+		/** @return the total number of headings the step added to the processed contexts */
+		public long getHeadings()
+		{
+			return headings.sum();
+		}
+
+		/** @return the total number of allocated bytes, or -1 if allocations were not measured */
+		public long getAllocatedBytes()
+		{
+			return allocationsMeasured ? allocatedBytes.sum() : -1;
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free histogram of non negative values, e.g. latencies in nanoseconds
+ *
+ * Values are recorded in log-linear buckets: every power of two range is split into
+ * {@value #SUB_BUCKETS} buckets of equal width, so a reported percentile is at most 12.5% above
+ * the recorded value
+ */
+public final class LatencyHistogram
+{
+	/**
+	 * The number of buckets per power of two range
+	 */
+	static final int SUB_BUCKETS = 8;
+
+	/**
+	 * The number of bits used for the sub bucket
+	 */
+	private static final int SUB_BUCKET_BITS = 3;
+
+	/**
+	 * The bucket counters
+	 */
+	private final AtomicLongArray counts = new AtomicLongArray(64 * SUB_BUCKETS);
+
+	/**
+	 * The number of recorded values
+	 */
+	private final LongAdder count = new LongAdder();
+
+	/**
+	 * The sum of the recorded values
+	 */
+	private final LongAdder sum = new LongAdder();
+
+	/**
+	 * The largest recorded value
+	 */
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Records a value, negative values are recorded as zero
+	 *
+	 * @param value
+	 *            the value to record
+	 */
+	public void record(long value)
+	{
+		long recorded = Math.max(0, value);
+		counts.incrementAndGet(bucket(recorded));
+		count.increment();
+		sum.add(recorded);
+		max.accumulate(recorded);
+	}
+
+	/** @return the number of recorded values */
+	public long getCount()
+	{
+		return count.sum();
+	}
+
+	/** @return the sum of the recorded values */
+	public long getSum()
+	{
+		return sum.sum();
+	}
+
+	/** @return the largest recorded value */
+	public long getMax()
+	{
+		return max.get();
+	}
+
+	/** @return the mean of the recorded values, or 0 if no value was recorded */
+	public double getMean()
+	{
+		long recorded = getCount();
+		return recorded == 0 ? 0 : (double)getSum() / recorded;
+	}
+
+	/**
+	 * Gets the value below or at which the given percentage of the recorded values lies
+	 *
+	 * @param percentile
+	 *            the percentile between 0 and 100
+	 * @return the upper bound of the bucket that contains the percentile, capped by the largest
+	 *         recorded value, or 0 if no value was recorded
+	 */
+	public long getPercentile(double percentile)
+	{
+		if (percentile < 0 || percentile > 100)
+		{
+			throw new IllegalArgumentException(
+				"percentile must be between 0 and 100: " + percentile);
+		}
+		long total = 0;
+		long[] snapshot = new long[counts.length()];
+		for (int i = 0; i < snapshot.length; i++)
+		{
+			snapshot[i] = counts.get(i);
+			total += snapshot[i];
+		}
+		if (total == 0)
+		{
+			return 0;
+		}
+		long rank = Math.max(1, (long)Math.ceil(total * percentile / 100));
+		long seen = 0;
+		for (int i = 0; i < snapshot.length; i++)
+		{
+			seen += snapshot[i];
+			if (seen >= rank)
+			{
+				return Math.min(upperBound(i), getMax());
+			}
+		}
+		return getMax();
+	}
+
+	/**
+	 * Gets the bucket of a value
+	 */
+	static int bucket(long value)
+	{
+		if (value < SUB_BUCKETS)
+		{
+			return (int)value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int)(value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * Gets the largest value of a bucket
+	 */
+	static long upperBound(int bucket)
+	{
+		if (bucket < SUB_BUCKETS)
+		{
+			return bucket;
+		}
+		int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long width = 1L << (exponent - SUB_BUCKET_BITS);
+		long lowerBound = (1L << exponent) + (bucket % SUB_BUCKETS) * width;
+		return lowerBound + width - 1;
+	}
+}
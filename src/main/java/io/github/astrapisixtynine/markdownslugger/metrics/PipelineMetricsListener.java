@@ -0,0 +1,65 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.metrics;
+
+/**
+ * Listener that receives the measurements of every processing step executed by a
+ * {@link io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessor}
+ *
+ * Implementations are called on the thread that processes the document and must be thread safe
+ * when the processor is shared between threads. A processor without a listener uses
+ * {@link #noOp()}, for which no measurements are taken at all
+ */
+public interface PipelineMetricsListener
+{
+	/**
+	 * Called after a processing step completed
+	 *
+	 * @param metrics
+	 *            the measurements of the step
+	 */
+	void stepCompleted(StepMetrics metrics);
+
+	/**
+	 * Whether the bytes allocated by a step are measured, which costs two additional calls per
+	 * step on the processing thread
+	 *
+	 * @return true if the allocations should be measured, false by default
+	 */
+	default boolean isAllocationTrackingEnabled()
+	{
+		return false;
+	}
+
+	/**
+	 * Gets the listener that ignores all measurements
+	 *
+	 * @return the no-op listener
+	 */
+	static PipelineMetricsListener noOp()
+	{
+		return NoOpPipelineMetricsListener.INSTANCE;
+	}
+}
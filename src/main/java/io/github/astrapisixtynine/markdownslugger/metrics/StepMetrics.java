@@ -0,0 +1,135 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.metrics;
+
+/**
+ * The measurements of a single execution of a processing step
+ */
+public final class StepMetrics
+{
+	/**
+	 * The position of the step in the pipeline
+	 */
+	private final int stepIndex;
+
+	/**
+	 * The name of the step
+	 */
+	private final String stepName;
+
+	/**
+	 * The wall time of the step in nanoseconds
+	 */
+	private final long durationNanos;
+
+	/**
+	 * The number of chars of the original content when the step started
+	 */
+	private final long characters;
+
+	/**
+	 * The number of headings the step added to the context
+	 */
+	private final int headings;
+
+	/**
+	 * The bytes allocated by the processing thread during the step, or -1 if not measured
+	 */
+	private final long allocatedBytes;
+
+	/**
+	 * Creates the measurements of a step execution
+	 *
+	 * @param stepIndex
+	 *            the position of the step in the pipeline
+	 * @param stepName
+	 *            the name of the step
+	 * @param durationNanos
+	 *            the wall time of the step in nanoseconds
+	 * @param characters
+	 *            the number of chars of the original content when the step started
+	 * @param headings
+	 *            the number of headings the step added to the context
+	 * @param allocatedBytes
+	 *            the bytes allocated during the step, or -1 if not measured
+	 */
+	public StepMetrics(int stepIndex, String stepName, long durationNanos, long characters,
+		int headings, long allocatedBytes)
+	{
+		this.stepIndex = stepIndex;
+		this.stepName = stepName;
+		this.durationNanos = durationNanos;
+		this.characters = characters;
+		this.headings = headings;
+		this.allocatedBytes = allocatedBytes;
+	}
+
+	/** @return the position of the step in the pipeline */
+	public int getStepIndex()
+	{
+		return stepIndex;
+	}
+
+	/** @return the name of the step */
+	public String getStepName()
+	{
+		return stepName;
+	}
+
+	/**
+	 * Gets the key of the step, its position and name, which is unique within a pipeline even if
+	 * several steps share a class
+	 *
+	 * @return the key in the form {@code index:name}
+	 */
+	public String getStepKey()
+	{
+		return stepIndex + ":" + stepName;
+	}
+
+	/** @return the wall time of the step in nanoseconds */
+	public long getDurationNanos()
+	{
+		return durationNanos;
+	}
+
+	/** @return the number of chars of the original content when the step started */
+	public long getCharacters()
+	{
+		return characters;
+	}
+
+	/** @return the number of headings the step added to the context */
+	public int getHeadings()
+	{
+		return headings;
+	}
+
+	/** @return the bytes allocated during the step, or -1 if not measured */
+	public long getAllocatedBytes()
+	{
+		return allocatedBytes;
+	}
+}
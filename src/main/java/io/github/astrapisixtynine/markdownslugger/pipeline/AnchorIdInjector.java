@@ -24,8 +24,12 @@
  */
 package io.github.astrapisixtynine.markdownslugger.pipeline;
 
+import java.util.Set;
+
+import io.github.astrapisixtynine.markdownslugger.core.HeadingTable;
 import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
 import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessingStep;
+import io.github.astrapisixtynine.markdownslugger.core.PipelineArtifact;
 
 /**
  * Processing step that injects anchor IDs into headings Modifies the Markdown content by appending
@@ -35,7 +39,8 @@ public class AnchorIdInjector implements MarkdownProcessingStep
 {
 	/**
 	 * Modifies the Markdown content by appending anchor IDs ({#slug}) to each heading Ensures the
-	 * output is compatible with Pandoc and EPUB generators
+	 * output is compatible with Pandoc and EPUB generators If the headings were recorded in the
+	 * heading table, the content is spliced at the recorded offsets instead of being scanned again
 	 *
 	 * @param context
 	 *            the MarkdownContext with headings and slugs
@@ -43,6 +48,13 @@ public class AnchorIdInjector implements MarkdownProcessingStep
 	@Override
 	public void process(MarkdownContext context)
 	{
+		HeadingTable table = context.headingTable;
+		if (table.backs(context.headings) && table.backs(context.slugs)
+			&& table.slugCount() == table.size() && table.getSource() == context.originalContent)
+		{
+			context.originalContent = splice(context.originalContent, table);
+			return;
+		}
 		String[] lines = context.originalContent.split("\n");
 		StringBuilder modified = new StringBuilder();
 
@@ -66,4 +78,52 @@ public class AnchorIdInjector implements MarkdownProcessingStep
 		}
 		context.originalContent = modified.toString();
 	}
+
+	/**
+	 * Copies the content between the recorded heading lines in bulk and rewrites only the heading
+	 * lines, the result is identical to the line based rewrite
+	 *
+	 * @param content
+	 *            the content the heading table refers to
+	 * @param table
+	 *            the heading table with source offsets and slugs
+	 * @return the content with anchor IDs
+	 */
+	static String splice(String content, HeadingTable table)
+	{
+		// trailing empty lines are dropped and every line ends with a line feed, as with split
+		int contentEnd = content.length();
+		while (contentEnd > 0 && content.charAt(contentEnd - 1) == '\n')
+		{
+			contentEnd--;
+		}
+		if (contentEnd == 0)
+		{
+			return content.isEmpty() ? "\n" : "";
+		}
+		int size = table.size();
+		StringBuilder modified = new StringBuilder(contentEnd + 1 + size * 32);
+		int position = 0;
+		for (int i = 0; i < size; i++)
+		{
+			int level = table.level(i);
+			modified.append(content, position, table.lineStart(i))
+				.append(content, table.start(i) - level - 1, table.end(i)).append(" {#");
+			table.appendSlug(i, modified).append('}');
+			position = table.lineEnd(i);
+		}
+		return modified.append(content, position, contentEnd).append('\n').toString();
+	}
+
+	@Override
+	public Set<PipelineArtifact> produces()
+	{
+		return Set.of(PipelineArtifact.ANCHORED_CONTENT);
+	}
+
+	@Override
+	public Set<PipelineArtifact> consumes()
+	{
+		return Set.of(PipelineArtifact.HEADINGS, PipelineArtifact.SLUGS);
+	}
 }
@@ -0,0 +1,157 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.pipeline;
+
+import java.util.Set;
+
+import io.github.astrapisixtynine.markdownslugger.core.HeadingTable;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessingStep;
+import io.github.astrapisixtynine.markdownslugger.core.PipelineArtifact;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugStrategy;
+
+/**
+ * Processing step that fuses heading extraction, slug mapping, TOC generation and anchor injection
+ * into a single pass over the Markdown content
+ *
+ * Produces the same context state as the sequence {@link HeadingExtractor}, {@code SlugMapper},
+ * {@link TocGenerator} and {@link AnchorIdInjector}, but recognizes headings with
+ * {@link HeadingLineParser} instead of regular expressions and copies non-heading lines in bulk
+ * instead of splitting the content into a line array
+ */
+public class FusedHeadingProcessor implements MarkdownProcessingStep
+{
+	/**
+	 * Precomputed TOC indentation for each heading level, index 0 is unused
+	 */
+	static final String[] TOC_INDENTS = { "", "", "  ", "    ", "      ", "        ",
+			"          " };
+
+	/**
+	 * The strategy used to convert headings into URL-friendly slugs
+	 */
+	private final SlugStrategy slugStrategy;
+
+	/**
+	 * Constructs a FusedHeadingProcessor with the specified SlugStrategy
+	 *
+	 * @param slugStrategy
+	 *            the strategy to use for generating slugs from headings
+	 */
+	public FusedHeadingProcessor(SlugStrategy slugStrategy)
+	{
+		this.slugStrategy = slugStrategy;
+	}
+
+	/**
+	 * Extracts headings, generates their slugs, builds the TOC and injects anchor IDs in one pass
+	 *
+	 * @param context
+	 *            the MarkdownContext containing the original Markdown content
+	 */
+	@Override
+	public void process(MarkdownContext context)
+	{
+		String content = context.originalContent;
+		HeadingTable table = context.headingTable;
+		table.reset(content);
+		int length = content.length();
+		// trailing empty lines are dropped, mirroring String.split("\n")
+		int contentEnd = length;
+		while (contentEnd > 0 && content.charAt(contentEnd - 1) == '\n')
+		{
+			contentEnd--;
+		}
+		if (contentEnd == 0)
+		{
+			exposeTable(context);
+			context.originalContent = length == 0 ? "\n" : "";
+			return;
+		}
+
+		StringBuilder modified = new StringBuilder(contentEnd + 64);
+		StringBuilder tocBuilder = new StringBuilder();
+		StringBuilder slug = new StringBuilder(32);
+		int lineStart = 0;
+		while (lineStart < contentEnd)
+		{
+			int lineEnd = content.indexOf('\n', lineStart);
+			if (lineEnd < 0 || lineEnd > contentEnd)
+			{
+				lineEnd = contentEnd;
+			}
+			int trimmedStart = HeadingLineParser.trimStart(content, lineStart, lineEnd);
+			int level = 0;
+			int trimmedEnd = lineEnd;
+			if (trimmedStart < lineEnd && content.charAt(trimmedStart) == '#')
+			{
+				trimmedEnd = HeadingLineParser.trimEnd(content, trimmedStart, lineEnd);
+				level = HeadingLineParser.level(content, trimmedStart, trimmedEnd);
+			}
+			if (level == 0)
+			{
+				modified.append(content, lineStart, lineEnd);
+			}
+			else
+			{
+				int headingStart = trimmedStart + level + 1;
+				table.add(level, lineStart, lineEnd, headingStart, trimmedEnd);
+				slug.setLength(0);
+				slugStrategy.toSlug(table.headingView(table.size() - 1), slug);
+				table.addSlug(slug);
+				tocBuilder.append(TOC_INDENTS[level]).append("- [")
+					.append(content, headingStart, trimmedEnd).append("](#").append(slug)
+					.append(")\n");
+				modified.append(content, trimmedStart, trimmedEnd).append(" {#").append(slug)
+					.append('}');
+			}
+			modified.append('\n');
+			lineStart = lineEnd + 1;
+		}
+		exposeTable(context);
+		context.toc = tocBuilder.toString();
+		context.originalContent = modified.toString();
+	}
+
+	private static void exposeTable(MarkdownContext context)
+	{
+		context.headings = context.headingTable.headings();
+		context.headingLevels = context.headingTable.levels();
+		context.slugs = context.headingTable.slugs();
+	}
+
+	@Override
+	public Set<PipelineArtifact> produces()
+	{
+		return Set.of(PipelineArtifact.HEADINGS, PipelineArtifact.SLUGS, PipelineArtifact.TOC,
+			PipelineArtifact.ANCHORED_CONTENT);
+	}
+
+	@Override
+	public Set<PipelineArtifact> consumes()
+	{
+		return Set.of();
+	}
+}
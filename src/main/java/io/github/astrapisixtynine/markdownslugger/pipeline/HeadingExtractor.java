@@ -24,19 +24,95 @@
  */
 package io.github.astrapisixtynine.markdownslugger.pipeline;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import io.github.astrapisixtynine.markdownslugger.core.HeadingTable;
 import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
 import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessingStep;
+import io.github.astrapisixtynine.markdownslugger.core.PipelineArtifact;
 
 /**
- * Processing step that extracts headings from the Markdown content Stores heading texts and their
- * corresponding levels in the context
+ * Processing step that extracts headings from the Markdown content Stores the heading levels and
+ * the exact source offsets of the heading lines and texts in the heading table of the context
+ *
+ * Only lines that start with a hash are parsed, they are found with the Vector API when the
+ * {@code jdk.incubator.vector} module is available and with a scalar search otherwise
+ *
+ * An extractor created with a ForkJoinPool splits large content into line aligned chunks, scans
+ * them in parallel and appends the per-chunk heading tables in document order. Whether a line is
+ * a heading depends on that line only, so the result is identical to the sequential scan.
  */
 public class HeadingExtractor implements MarkdownProcessingStep
 {
+	/**
+	 * The default minimum number of characters of a chunk
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+	/**
+	 * The number of chunks per worker thread, more chunks than workers balance uneven chunks
+	 */
+	private static final int CHUNKS_PER_WORKER = 4;
 
 	/**
-	 * Extracts headings and their levels from the Markdown content Updates the context with lists
-	 * of heading texts and their levels
+	 * The pool the chunks are scanned on, or null to scan sequentially
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * The minimum number of characters of a chunk, content shorter than two chunks is scanned
+	 * sequentially
+	 */
+	private final int chunkSize;
+
+	/**
+	 * Constructs a HeadingExtractor that scans the content sequentially
+	 */
+	public HeadingExtractor()
+	{
+		this.pool = null;
+		this.chunkSize = Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Constructs a HeadingExtractor that scans large content in chunks of at least
+	 * {@value #DEFAULT_CHUNK_SIZE} characters on the given pool
+	 *
+	 * @param pool
+	 *            the pool the chunks are scanned on
+	 */
+	public HeadingExtractor(ForkJoinPool pool)
+	{
+		this(pool, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Constructs a HeadingExtractor that scans large content in chunks on the given pool
+	 *
+	 * @param pool
+	 *            the pool the chunks are scanned on
+	 * @param chunkSize
+	 *            the minimum number of characters of a chunk
+	 * @throws IllegalArgumentException
+	 *             if chunkSize is not positive
+	 */
+	public HeadingExtractor(ForkJoinPool pool, int chunkSize)
+	{
+		if (chunkSize <= 0)
+		{
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		}
+		this.pool = pool;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Extracts headings and their levels from the Markdown content Fills the heading table of the
+	 * context and exposes it through the lists of heading texts and their levels
 	 *
 	 * @param context
 	 *            the MarkdownContext containing the original Markdown content
@@ -44,20 +120,73 @@ public class HeadingExtractor implements MarkdownProcessingStep
 	@Override
 	public void process(MarkdownContext context)
 	{
-		String[] lines = context.originalContent.split("\n");
-		for (String line : lines)
+		String content = context.originalContent;
+		HeadingTable table = context.headingTable;
+		table.reset(content);
+		if (pool == null || content.length() / 2 < chunkSize)
+		{
+			HeadingScanner.INSTANCE.scan(content, table);
+		}
+		else
+		{
+			scanChunks(content, table);
+		}
+		context.headings = table.headings();
+		context.headingLevels = table.levels();
+	}
+
+	/**
+	 * Scans line aligned chunks of the content in parallel and appends their headings in
+	 * document order
+	 */
+	private void scanChunks(String content, HeadingTable table)
+	{
+		int length = content.length();
+		int chunkCount = (int)Math.min(length / chunkSize,
+			(long)pool.getParallelism() * CHUNKS_PER_WORKER);
+		List<ForkJoinTask<HeadingTable>> chunks = new ArrayList<>(chunkCount);
+		int from = 0;
+		for (int i = 1; i <= chunkCount && from < length; i++)
 		{
-			String trimmed = line.trim();
-			if (trimmed.matches("^#{1,6} .+"))
+			int to = i == chunkCount ? length
+				: nextLineStart(content, (int)((long)length * i / chunkCount));
+			if (to <= from)
 			{
-				int level = 0;
-				while (level < trimmed.length() && trimmed.charAt(level) == '#')
-				{
-					level++;
-				}
-				context.headingLevels.add(level);
-				context.headings.add(trimmed.replaceFirst("^#+ ", ""));
+				continue;
 			}
+			int chunkStart = from;
+			chunks.add(pool.submit(() -> {
+				HeadingTable chunk = new HeadingTable();
+				chunk.reset(content);
+				HeadingScanner.INSTANCE.scan(content, chunkStart, to, chunk);
+				return chunk;
+			}));
+			from = to;
+		}
+		for (ForkJoinTask<HeadingTable> chunk : chunks)
+		{
+			table.addAll(chunk.join());
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Gets the start of the line following the given position, or the content length
+	 */
+	private static int nextLineStart(String content, int position)
+	{
+		int lineFeed = content.indexOf('\n', position);
+		return lineFeed < 0 ? content.length() : lineFeed + 1;
+	}
+
+	@Override
+	public Set<PipelineArtifact> produces()
+	{
+		return Set.of(PipelineArtifact.HEADINGS);
+	}
+
+	@Override
+	public Set<PipelineArtifact> consumes()
+	{
+		return Set.of();
+	}
+}
@@ -0,0 +1,160 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.pipeline;
+
+/**
+ * Hand-written recognizer for ATX headings on a single line of Markdown content
+ *
+ * Accepts exactly the lines matched by the regular expression {@code ^#{1,6} .+} applied to the
+ * trimmed line, without compiling a pattern or creating substrings. All methods operate on index
+ * ranges of a {@link CharSequence} so that callers can scan a whole document in place.
+ */
+public final class HeadingLineParser
+{
+	/**
+	 * The maximum heading level supported by Markdown ATX headings
+	 */
+	public static final int MAX_LEVEL = 6;
+
+	private HeadingLineParser()
+	{
+	}
+
+	/**
+	 * Finds the index of the first character of the given range that would survive
+	 * {@link String#trim()}
+	 *
+	 * @param content
+	 *            the content to inspect
+	 * @param start
+	 *            the inclusive start index of the line
+	 * @param end
+	 *            the exclusive end index of the line
+	 * @return the index of the first non-whitespace character, or {@code end} if there is none
+	 */
+	public static int trimStart(CharSequence content, int start, int end)
+	{
+		while (start < end && content.charAt(start) <= ' ')
+		{
+			start++;
+		}
+		return start;
+	}
+
+	/**
+	 * Finds the exclusive end index of the given range after trailing whitespace has been removed
+	 * the same way as {@link String#trim()} does
+	 *
+	 * @param content
+	 *            the content to inspect
+	 * @param start
+	 *            the inclusive start index of the line
+	 * @param end
+	 *            the exclusive end index of the line
+	 * @return the exclusive end index of the trimmed line
+	 */
+	public static int trimEnd(CharSequence content, int start, int end)
+	{
+		while (end > start && content.charAt(end - 1) <= ' ')
+		{
+			end--;
+		}
+		return end;
+	}
+
+	/**
+	 * Determines the heading level of an already trimmed line
+	 *
+	 * The heading text of a recognized line starts at {@code trimmedStart + level + 1} and ends at
+	 * {@code trimmedEnd}
+	 *
+	 * @param content
+	 *            the content to inspect
+	 * @param trimmedStart
+	 *            the inclusive start index of the trimmed line
+	 * @param trimmedEnd
+	 *            the exclusive end index of the trimmed line
+	 * @return the heading level between 1 and 6, or 0 if the line is not a heading
+	 */
+	public static int level(CharSequence content, int trimmedStart, int trimmedEnd)
+	{
+		int level = 0;
+		int position = trimmedStart;
+		while (position < trimmedEnd && content.charAt(position) == '#')
+		{
+			if (++level > MAX_LEVEL)
+			{
+				return 0;
+			}
+			position++;
+		}
+		// a single space must follow the hashes and at least one character must follow the space
+		if (level == 0 || position + 1 >= trimmedEnd || content.charAt(position) != ' ')
+		{
+			return 0;
+		}
+		for (int i = position + 1; i < trimmedEnd; i++)
+		{
+			if (isLineTerminator(content.charAt(i)))
+			{
+				return 0;
+			}
+		}
+		return level;
+	}
+
+	/**
+	 * Determines the heading level of the given untrimmed line
+	 *
+	 * @param content
+	 *            the content to inspect
+	 * @param start
+	 *            the inclusive start index of the line
+	 * @param end
+	 *            the exclusive end index of the line, excluding the line feed
+	 * @return the heading level between 1 and 6, or 0 if the line is not a heading
+	 */
+	public static int lineLevel(CharSequence content, int start, int end)
+	{
+		int trimmedStart = trimStart(content, start, end);
+		if (trimmedStart == end || content.charAt(trimmedStart) != '#')
+		{
+			return 0;
+		}
+		return level(content, trimmedStart, trimEnd(content, trimmedStart, end));
+	}
+
+	/**
+	 * Checks whether the given character is one that the regex dot does not match
+	 *
+	 * @param c
+	 *            the character to check
+	 * @return true if the character terminates a line in the sense of {@link java.util.regex}
+	 */
+	static boolean isLineTerminator(char c)
+	{
+		return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+	}
+}
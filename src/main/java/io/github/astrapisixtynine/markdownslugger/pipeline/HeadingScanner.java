@@ -0,0 +1,151 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.pipeline;
+
+import io.github.astrapisixtynine.markdownslugger.core.HeadingTable;
+
+/**
+ * Finds heading candidates, lines whose first non-whitespace character is a hash, and hands only
+ * those lines to {@link HeadingLineParser}
+ *
+ * The implementation is selected once at runtime. The scalar scanner is the default, its
+ * {@link String#indexOf(int)} search is intrinsified and works on the string without copying it.
+ * The {@code jdk.incubator.vector} based scanner, which is built from the separate
+ * {@code src/vector/java} source set, is only used if the system property
+ * {@value #SCANNER_PROPERTY} is set to {@code vector} and the module is available, e.g. with
+ * {@code --add-modules jdk.incubator.vector}.
+ */
+abstract class HeadingScanner
+{
+	/**
+	 * The system property that selects the scanner
+	 */
+	static final String SCANNER_PROPERTY = "markdownslugger.scanner";
+
+	/**
+	 * The scanner selected for this runtime
+	 */
+	static final HeadingScanner INSTANCE = select();
+
+	/**
+	 * Gets the index of the next hash character
+	 *
+	 * @param content
+	 *            the content to search
+	 * @param from
+	 *            the inclusive start index
+	 * @param to
+	 *            the exclusive end index
+	 * @param buffer
+	 *            the scratch buffer created by {@link #newBuffer()}
+	 * @return the index of the next hash character, or {@code to} if there is none
+	 */
+	abstract int indexOfHash(String content, int from, int to, char[] buffer);
+
+	/**
+	 * Creates the scratch buffer for a single scan
+	 *
+	 * @return the buffer, or null if the scanner needs none
+	 */
+	abstract char[] newBuffer();
+
+	/**
+	 * Adds all headings of the content to the table
+	 *
+	 * @param content
+	 *            the Markdown content
+	 * @param table
+	 *            the table that receives the headings
+	 */
+	final void scan(String content, HeadingTable table)
+	{
+		scan(content, 0, content.length(), table);
+	}
+
+	/**
+	 * Adds the headings of a line aligned range of the content to the table
+	 *
+	 * @param content
+	 *            the Markdown content
+	 * @param from
+	 *            the inclusive start index, the start of a line
+	 * @param to
+	 *            the exclusive end index, the start of a line or the length of the content
+	 * @param table
+	 *            the table that receives the headings
+	 */
+	final void scan(String content, int from, int to, HeadingTable table)
+	{
+		char[] buffer = newBuffer();
+		while (from < to)
+		{
+			int hash = indexOfHash(content, from, to, buffer);
+			if (hash >= to)
+			{
+				return;
+			}
+			// from is always the start of a line, so the backward search never passes it
+			int lineStart = content.lastIndexOf('\n', hash - 1) + 1;
+			int lineEnd = content.indexOf('\n', hash, to);
+			if (lineEnd < 0)
+			{
+				lineEnd = to;
+			}
+			if (HeadingLineParser.trimStart(content, lineStart, hash) == hash)
+			{
+				int level = HeadingLineParser.lineLevel(content, lineStart, lineEnd);
+				if (level > 0)
+				{
+					int trimmedEnd = HeadingLineParser.trimEnd(content, hash, lineEnd);
+					table.add(level, lineStart, lineEnd, hash + level + 1, trimmedEnd);
+				}
+			}
+			// a line is inspected once, further hashes on it cannot start a heading
+			from = lineEnd + 1;
+		}
+	}
+
+	/**
+	 * Selects the scanner for this runtime
+	 */
+	private static HeadingScanner select()
+	{
+		if ("vector".equals(System.getProperty(SCANNER_PROPERTY))
+			&& ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent())
+		{
+			try
+			{
+				return Class
+					.forName(HeadingScanner.class.getPackageName() + ".VectorHeadingScanner")
+					.asSubclass(HeadingScanner.class).getDeclaredConstructor().newInstance();
+			}
+			catch (ReflectiveOperationException | LinkageError e)
+			{
+				// fall back to the scalar scanner
+			}
+		}
+		return new ScalarHeadingScanner();
+	}
+}
@@ -0,0 +1,295 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.pipeline;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugStrategy;
+
+/**
+ * Streaming counterpart of the default pipeline that reads Markdown from a {@link Reader} and
+ * writes the anchored Markdown to a {@link Writer} while reading
+ *
+ * Only the current line is buffered, and only while it may still turn out to be a heading. Lines
+ * that cannot be headings are copied straight to the output, so memory use does not depend on the
+ * size of the document. The returned context holds the headings, their levels, the slugs and the
+ * TOC, but no document content.
+ */
+public class StreamingHeadingProcessor
+{
+	/**
+	 * The default size of the read buffer in characters
+	 */
+	static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	/** State of a line whose first non-whitespace character has not been read yet */
+	private static final int LINE_START = 0;
+
+	/** State of a line that starts with one or more hash characters */
+	private static final int HASHES = 1;
+
+	/** State of a line that starts with hash characters followed by a space */
+	private static final int HEADING = 2;
+
+	/** State of a line that is known not to be a heading */
+	private static final int PASSTHROUGH = 3;
+
+	/**
+	 * The strategy used to convert headings into URL-friendly slugs
+	 */
+	private final SlugStrategy slugStrategy;
+
+	/**
+	 * The size of the read buffer in characters
+	 */
+	private final int bufferSize;
+
+	/**
+	 * Constructs a StreamingHeadingProcessor with the specified SlugStrategy
+	 *
+	 * @param slugStrategy
+	 *            the strategy to use for generating slugs from headings
+	 */
+	public StreamingHeadingProcessor(SlugStrategy slugStrategy)
+	{
+		this(slugStrategy, DEFAULT_BUFFER_SIZE);
+	}
+
+	StreamingHeadingProcessor(SlugStrategy slugStrategy, int bufferSize)
+	{
+		this.slugStrategy = slugStrategy;
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Reads UTF-8 encoded Markdown from the given stream and writes the UTF-8 encoded anchored
+	 * Markdown to the given output stream, neither stream is closed
+	 *
+	 * @param input
+	 *            the stream to read the Markdown content from
+	 * @param output
+	 *            the stream to write the anchored Markdown content to
+	 * @return a context with the extracted headings, levels, slugs and TOC
+	 * @throws IOException
+	 *             if reading or writing fails
+	 */
+	public MarkdownContext process(InputStream input, OutputStream output) throws IOException
+	{
+		Writer writer = new BufferedWriter(
+			new OutputStreamWriter(output, StandardCharsets.UTF_8), bufferSize);
+		MarkdownContext context = process(new InputStreamReader(input, StandardCharsets.UTF_8),
+			writer);
+		writer.flush();
+		return context;
+	}
+
+	/**
+	 * Reads Markdown from the given reader and writes the anchored Markdown to the given writer,
+	 * neither of them is closed
+	 *
+	 * @param reader
+	 *            the reader to read the Markdown content from
+	 * @param writer
+	 *            the writer to write the anchored Markdown content to
+	 * @return a context with the extracted headings, levels, slugs and TOC
+	 * @throws IOException
+	 *             if reading or writing fails
+	 */
+	public MarkdownContext process(Reader reader, Writer writer) throws IOException
+	{
+		return new Run(writer).process(reader);
+	}
+
+	/**
+	 * The mutable state of a single streaming run
+	 */
+	private final class Run
+	{
+		private final Writer writer;
+
+		private final MarkdownContext context = new MarkdownContext();
+
+		private final StringBuilder toc = new StringBuilder();
+
+		private final StringBuilder line = new StringBuilder();
+
+		private int state = LINE_START;
+
+		private int hashes;
+
+		private int pendingNewlines;
+
+		private boolean contentSeen;
+
+		Run(Writer writer)
+		{
+			this.writer = writer;
+		}
+
+		MarkdownContext process(Reader reader) throws IOException
+		{
+			char[] buffer = new char[bufferSize];
+			boolean inputSeen = false;
+			int read;
+			while ((read = reader.read(buffer)) != -1)
+			{
+				inputSeen |= read > 0;
+				int position = 0;
+				while (position < read)
+				{
+					if (state == PASSTHROUGH)
+					{
+						int end = position;
+						while (end < read && buffer[end] != '\n')
+						{
+							end++;
+						}
+						writer.write(buffer, position, end - position);
+						if (end == read)
+						{
+							break;
+						}
+						state = LINE_START;
+						pendingNewlines++;
+						position = end + 1;
+						continue;
+					}
+					char c = buffer[position++];
+					if (c == '\n')
+					{
+						finishLine();
+						pendingNewlines++;
+						continue;
+					}
+					contentSeen = true;
+					line.append(c);
+					accept(c);
+				}
+			}
+			finishLine();
+			// every line is terminated by a line feed and trailing empty lines are dropped,
+			// mirroring AnchorIdInjector
+			if (contentSeen || !inputSeen)
+			{
+				writer.write('\n');
+			}
+			writer.flush();
+			context.toc = toc.toString();
+			return context;
+		}
+
+		/**
+		 * Advances the line state with a character that has just been buffered
+		 */
+		private void accept(char c) throws IOException
+		{
+			if (state == LINE_START)
+			{
+				if (c == '#')
+				{
+					state = HASHES;
+					hashes = 1;
+				}
+				else if (c > ' ')
+				{
+					passthrough();
+				}
+			}
+			else if (state == HASHES)
+			{
+				if (c == ' ')
+				{
+					state = HEADING;
+				}
+				else if (c != '#' || ++hashes > HeadingLineParser.MAX_LEVEL)
+				{
+					passthrough();
+				}
+			}
+		}
+
+		/**
+		 * Writes the buffered part of a line that cannot be a heading and switches to direct
+		 * copying
+		 */
+		private void passthrough() throws IOException
+		{
+			flushPendingNewlines();
+			writer.append(line);
+			line.setLength(0);
+			state = PASSTHROUGH;
+		}
+
+		/**
+		 * Completes the current line when a line feed or the end of the input is reached
+		 */
+		private void finishLine() throws IOException
+		{
+			if (line.length() > 0)
+			{
+				flushPendingNewlines();
+				int length = line.length();
+				int level = state == HEADING ? HeadingLineParser.lineLevel(line, 0, length) : 0;
+				if (level == 0)
+				{
+					writer.append(line);
+				}
+				else
+				{
+					int trimmedStart = HeadingLineParser.trimStart(line, 0, length);
+					int trimmedEnd = HeadingLineParser.trimEnd(line, trimmedStart, length);
+					String heading = line.substring(trimmedStart + level + 1, trimmedEnd);
+					String slug = slugStrategy.toSlug(heading);
+					context.headingLevels.add(level);
+					context.headings.add(heading);
+					context.slugs.add(slug);
+					toc.append(FusedHeadingProcessor.TOC_INDENTS[level]).append("- [")
+						.append(heading).append("](#").append(slug).append(")\n");
+					writer.append(line, trimmedStart, trimmedEnd).append(" {#").append(slug)
+						.append('}');
+				}
+				line.setLength(0);
+			}
+			state = LINE_START;
+		}
+
+		private void flushPendingNewlines() throws IOException
+		{
+			for (; pendingNewlines > 0; pendingNewlines--)
+			{
+				writer.write('\n');
+			}
+		}
+	}
+}
@@ -24,12 +24,16 @@
  */
 package io.github.astrapisixtynine.markdownslugger.pipeline;
 
+import java.util.Set;
+
 import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
 import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessingStep;
+import io.github.astrapisixtynine.markdownslugger.core.PipelineArtifact;
 
 /**
  * Processing step that builds a Markdown table of contents (TOC) Uses heading levels and slugs to
- * create an indented list of links
+ * create an indented list of links, see {@link TocRenderer} for other formats and for rendering
+ * into a writer
  */
 public class TocGenerator implements MarkdownProcessingStep
 {
@@ -43,16 +47,18 @@ public class TocGenerator implements MarkdownProcessingStep
 	@Override
 	public void process(MarkdownContext context)
 	{
-		StringBuilder tocBuilder = new StringBuilder();
-		for (int i = 0; i < context.headings.size(); i++)
-		{
-			String heading = context.headings.get(i);
-			String slug = context.slugs.get(i);
-			int level = context.headingLevels.get(i);
-			String indent = "  ".repeat(Math.max(0, level - 1));
-			tocBuilder.append(indent).append("- [").append(heading).append("](#").append(slug)
-				.append(")\n");
-		}
-		context.toc = tocBuilder.toString();
+		context.toc = TocRenderer.MARKDOWN.render(context);
+	}
+
+	@Override
+	public Set<PipelineArtifact> produces()
+	{
+		return Set.of(PipelineArtifact.TOC);
+	}
+
+	@Override
+	public Set<PipelineArtifact> consumes()
+	{
+		return Set.of(PipelineArtifact.HEADINGS, PipelineArtifact.SLUGS);
 	}
 }
@@ -0,0 +1,302 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.pipeline;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+
+import io.github.astrapisixtynine.markdownslugger.core.HeadingTable;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+
+/**
+ * Renders the table of contents of a processed context straight into any {@link Appendable}, e.g.
+ * the {@link java.io.Writer} of an HTTP response, without building an intermediate string
+ *
+ * Headings below the minimum level are skipped, as are headings whose level is not within the
+ * maximum depth counted from the minimum level. Indentation and nesting are relative to the minimum
+ * level. Heading texts and slugs are read from the heading table of the context when it backs the
+ * lists of the context, so they are never materialized as strings. Instances are immutable and
+ * thread safe.
+ */
+public class TocRenderer
+{
+	/**
+	 * Renders all headings as Markdown exactly like {@link TocGenerator}
+	 */
+	public static final TocRenderer MARKDOWN = new TocRenderer(TocFormat.MARKDOWN);
+
+	/**
+	 * Precomputed Markdown indentation for each depth
+	 */
+	private static final String[] INDENTS = { "", "  ", "    ", "      ", "        ",
+			"          " };
+
+	/**
+	 * The output format
+	 */
+	private final TocFormat format;
+
+	/**
+	 * The lowest heading level that is rendered
+	 */
+	private final int minLevel;
+
+	/**
+	 * The number of heading levels that are rendered, starting with the minimum level
+	 */
+	private final int maxDepth;
+
+	/**
+	 * Constructs a TocRenderer that renders all headings
+	 *
+	 * @param format
+	 *            the output format
+	 */
+	public TocRenderer(TocFormat format)
+	{
+		this(format, 1, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Constructs a TocRenderer
+	 *
+	 * @param format
+	 *            the output format
+	 * @param minLevel
+	 *            the lowest heading level that is rendered, e.g. 2 to skip the document title
+	 * @param maxDepth
+	 *            the number of heading levels that are rendered starting with the minimum level
+	 */
+	public TocRenderer(TocFormat format, int minLevel, int maxDepth)
+	{
+		if (minLevel < 1)
+		{
+			throw new IllegalArgumentException("minLevel must be positive: " + minLevel);
+		}
+		if (maxDepth < 1)
+		{
+			throw new IllegalArgumentException("maxDepth must be positive: " + maxDepth);
+		}
+		this.format = format;
+		this.minLevel = minLevel;
+		this.maxDepth = maxDepth;
+	}
+
+	/**
+	 * Renders the table of contents of the given context into a string
+	 *
+	 * @param context
+	 *            the MarkdownContext with heading and slug data
+	 * @return the rendered table of contents
+	 */
+	public String render(MarkdownContext context)
+	{
+		StringBuilder out = new StringBuilder();
+		try
+		{
+			render(context, out);
+		}
+		catch (IOException e)
+		{
+			// a StringBuilder never throws
+			throw new UncheckedIOException(e);
+		}
+		return out.toString();
+	}
+
+	/**
+	 * Renders the table of contents of the given context
+	 *
+	 * @param context
+	 *            the MarkdownContext with heading and slug data
+	 * @param out
+	 *            the appendable to render to
+	 * @throws IOException
+	 *             if appending fails
+	 */
+	public void render(MarkdownContext context, Appendable out) throws IOException
+	{
+		HeadingTable table = context.headingTable;
+		boolean fromTable = table.backs(context.headings) && table.backs(context.slugs);
+		List<String> headings = context.headings;
+		List<String> slugs = context.slugs;
+		int size = fromTable ? table.size() : headings.size();
+		// the number of open HTML lists and for each list whether its last item is still open
+		int openLists = 0;
+		boolean[] openItems = new boolean[8];
+		boolean first = true;
+		if (format == TocFormat.JSON)
+		{
+			out.append('[');
+		}
+		for (int i = 0; i < size; i++)
+		{
+			int level = fromTable ? table.level(i) : context.headingLevels.get(i);
+			int depth = level - minLevel;
+			if (depth < 0 || depth >= maxDepth)
+			{
+				continue;
+			}
+			CharSequence source = fromTable ? table.getSource() : headings.get(i);
+			int start = fromTable ? table.start(i) : 0;
+			int end = fromTable ? table.end(i) : source.length();
+			CharSequence slug = fromTable ? table.slugView(i) : slugs.get(i);
+			switch (format)
+			{
+				case MARKDOWN :
+					out.append(depth < INDENTS.length ? INDENTS[depth] : "  ".repeat(depth))
+						.append("- [").append(source, start, end).append("](#").append(slug)
+						.append(")\n");
+					break;
+				case HTML :
+					int target = depth + 1;
+					if (openItems.length <= target)
+					{
+						openItems = Arrays.copyOf(openItems, target + 1);
+					}
+					if (openLists < target)
+					{
+						while (openLists < target)
+						{
+							// a level jump nests into an otherwise empty item
+							if (openLists > 0 && !openItems[openLists])
+							{
+								out.append("<li>");
+								openItems[openLists] = true;
+							}
+							out.append("<ul>");
+							openItems[++openLists] = false;
+						}
+					}
+					else
+					{
+						while (openLists > target)
+						{
+							closeList(out, openItems, openLists--);
+						}
+						if (openItems[openLists])
+						{
+							out.append("</li>");
+						}
+					}
+					out.append("<li><a href=\"#");
+					appendHtml(out, slug, 0, slug.length());
+					out.append("\">");
+					appendHtml(out, source, start, end);
+					out.append("</a>");
+					openItems[openLists] = true;
+					break;
+				case JSON :
+					out.append(first ? "{\"level\":" : ",{\"level\":")
+						.append(Integer.toString(level)).append(",\"text\":\"");
+					appendJson(out, source, start, end);
+					out.append("\",\"slug\":\"");
+					appendJson(out, slug, 0, slug.length());
+					out.append("\"}");
+					break;
+			}
+			first = false;
+		}
+		if (format == TocFormat.HTML)
+		{
+			while (openLists > 0)
+			{
+				closeList(out, openItems, openLists--);
+			}
+		}
+		else if (format == TocFormat.JSON)
+		{
+			out.append(']');
+		}
+	}
+
+	private static void closeList(Appendable out, boolean[] openItems, int list) throws IOException
+	{
+		if (openItems[list])
+		{
+			out.append("</li>");
+		}
+		out.append("</ul>");
+	}
+
+	/**
+	 * Appends text escaped for HTML content and attribute values
+	 */
+	private static void appendHtml(Appendable out, CharSequence text, int start, int end)
+		throws IOException
+	{
+		int copied = start;
+		for (int i = start; i < end; i++)
+		{
+			String escaped = switch (text.charAt(i))
+			{
+				case '&' -> "&amp;";
+				case '<' -> "&lt;";
+				case '>' -> "&gt;";
+				case '"' -> "&quot;";
+				case '\'' -> "&#39;";
+				default -> null;
+			};
+			if (escaped != null)
+			{
+				out.append(text, copied, i).append(escaped);
+				copied = i + 1;
+			}
+		}
+		out.append(text, copied, end);
+	}
+
+	/**
+	 * Appends text escaped for a JSON string, line and paragraph separators are escaped as well so
+	 * the output can be embedded in JavaScript
+	 */
+	private static void appendJson(Appendable out, CharSequence text, int start, int end)
+		throws IOException
+	{
+		int copied = start;
+		for (int i = start; i < end; i++)
+		{
+			char c = text.charAt(i);
+			if (c >= ' ' && c != '"' && c != '\\' && c != '\u2028' && c != '\u2029')
+			{
+				continue;
+			}
+			out.append(text, copied, i);
+			switch (c)
+			{
+				case '"' -> out.append("\\\"");
+				case '\\' -> out.append("\\\\");
+				case '\n' -> out.append("\\n");
+				case '\r' -> out.append("\\r");
+				case '\t' -> out.append("\\t");
+				default -> out.append(String.format("\\u%04x", (int)c));
+			}
+			copied = i + 1;
+		}
+		out.append(text, copied, end);
+	}
+}
@@ -0,0 +1,300 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.pipeline;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugStrategy;
+
+/**
+ * Counterpart of the default pipeline that works directly on UTF-8 encoded Markdown
+ *
+ * Headings are recognized and anchor IDs are injected in the byte domain, which is possible
+ * because all structural characters are ASCII and no byte of a multi-byte UTF-8 sequence is in the
+ * ASCII range. Only the heading texts are decoded for the {@link SlugStrategy}, the document itself
+ * is never transcoded. For valid UTF-8 the results equal those of the default pipeline on the
+ * decoded content; malformed sequences are copied unchanged instead of being replaced.
+ *
+ * The content is processed in two passes. The first pass finds the headings and their slugs and
+ * computes the exact size of the result, the second pass copies the content into a result array of
+ * that size, so the peak memory is the input plus the result without any growth or final copy.
+ */
+public class Utf8HeadingProcessor
+{
+	/**
+	 * The bytes that open an anchor ID
+	 */
+	private static final byte[] ANCHOR_START = " {#".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * The strategy used to convert headings into URL-friendly slugs
+	 */
+	private final SlugStrategy slugStrategy;
+
+	/**
+	 * Constructs a Utf8HeadingProcessor with the specified SlugStrategy
+	 *
+	 * @param slugStrategy
+	 *            the strategy to use for generating slugs from headings
+	 */
+	public Utf8HeadingProcessor(SlugStrategy slugStrategy)
+	{
+		this.slugStrategy = slugStrategy;
+	}
+
+	/**
+	 * Processes UTF-8 encoded Markdown
+	 *
+	 * @param content
+	 *            the UTF-8 encoded Markdown content
+	 * @param context
+	 *            the context that receives the headings, their levels, the slugs and the TOC, its
+	 *            original content is not touched
+	 * @return the UTF-8 encoded Markdown content with anchor IDs
+	 */
+	public byte[] process(byte[] content, MarkdownContext context)
+	{
+		return process(content, 0, content.length, context);
+	}
+
+	/**
+	 * Processes UTF-8 encoded Markdown between the position and the limit of the given buffer, the
+	 * position of the buffer is not changed
+	 *
+	 * Heap buffers are read in place, the content of direct buffers is copied once.
+	 *
+	 * @param content
+	 *            the buffer with the UTF-8 encoded Markdown content
+	 * @param context
+	 *            the context that receives the headings, their levels, the slugs and the TOC, its
+	 *            original content is not touched
+	 * @return a heap buffer with the UTF-8 encoded Markdown content with anchor IDs
+	 */
+	public ByteBuffer process(ByteBuffer content, MarkdownContext context)
+	{
+		if (content.hasArray())
+		{
+			return ByteBuffer.wrap(process(content.array(),
+				content.arrayOffset() + content.position(), content.remaining(), context));
+		}
+		byte[] copy = new byte[content.remaining()];
+		content.get(content.position(), copy);
+		return ByteBuffer.wrap(process(copy, 0, copy.length, context));
+	}
+
+	/**
+	 * Processes the given range of UTF-8 encoded Markdown
+	 */
+	private byte[] process(byte[] content, int offset, int length, MarkdownContext context)
+	{
+		List<String> headings = new ArrayList<>();
+		List<Integer> levels = new ArrayList<>();
+		List<String> slugs = new ArrayList<>();
+		// the UTF-8 encoded slugs, null for ASCII slugs that are written char by char
+		List<byte[]> encodedSlugs = new ArrayList<>();
+		// line start, trimmed start, trimmed end and line end of every heading
+		int[] bounds = new int[64];
+		StringBuilder tocBuilder = new StringBuilder();
+		int end = offset + length;
+		// trailing empty lines are dropped, mirroring String.split("\n")
+		int contentEnd = end;
+		while (contentEnd > offset && content[contentEnd - 1] == '\n')
+		{
+			contentEnd--;
+		}
+		// every line is terminated by a line feed, empty content becomes a single line feed
+		long size = contentEnd > offset || length == 0 ? contentEnd - offset + 1 : 0;
+
+		int lineStart = offset;
+		while (lineStart < contentEnd)
+		{
+			int lineEnd = indexOfNewline(content, lineStart, contentEnd);
+			int trimmedStart = lineStart;
+			while (trimmedStart < lineEnd && isWhitespace(content[trimmedStart]))
+			{
+				trimmedStart++;
+			}
+			int level = 0;
+			int trimmedEnd = lineEnd;
+			if (trimmedStart < lineEnd && content[trimmedStart] == '#')
+			{
+				while (trimmedEnd > trimmedStart && isWhitespace(content[trimmedEnd - 1]))
+				{
+					trimmedEnd--;
+				}
+				level = level(content, trimmedStart, trimmedEnd);
+			}
+			if (level > 0)
+			{
+				int headingStart = trimmedStart + level + 1;
+				String heading = new String(content, headingStart, trimmedEnd - headingStart,
+					StandardCharsets.UTF_8);
+				String slug = slugStrategy.toSlug(heading);
+				byte[] encodedSlug = isAscii(slug) ? null : slug.getBytes(StandardCharsets.UTF_8);
+				int index = headings.size();
+				headings.add(heading);
+				levels.add(level);
+				slugs.add(slug);
+				encodedSlugs.add(encodedSlug);
+				tocBuilder.append(FusedHeadingProcessor.TOC_INDENTS[level]).append("- [")
+					.append(heading).append("](#").append(slug).append(")\n");
+				if (4 * index + 4 > bounds.length)
+				{
+					bounds = Arrays.copyOf(bounds, bounds.length * 2);
+				}
+				bounds[4 * index] = lineStart;
+				bounds[4 * index + 1] = trimmedStart;
+				bounds[4 * index + 2] = trimmedEnd;
+				bounds[4 * index + 3] = lineEnd;
+				size += (trimmedEnd - trimmedStart) - (lineEnd - lineStart) + ANCHOR_START.length
+					+ (encodedSlug == null ? slug.length() : encodedSlug.length) + 1;
+			}
+			lineStart = lineEnd + 1;
+		}
+
+		byte[] output = new byte[Math.toIntExact(size)];
+		int written = 0;
+		int copied = offset;
+		for (int i = 0; i < headings.size(); i++)
+		{
+			// the lines before the heading are copied with their line feeds
+			written = copy(content, copied, bounds[4 * i], output, written);
+			written = copy(content, bounds[4 * i + 1], bounds[4 * i + 2], output, written);
+			written = copy(ANCHOR_START, 0, ANCHOR_START.length, output, written);
+			byte[] encodedSlug = encodedSlugs.get(i);
+			if (encodedSlug == null)
+			{
+				String slug = slugs.get(i);
+				for (int j = 0; j < slug.length(); j++)
+				{
+					output[written++] = (byte)slug.charAt(j);
+				}
+			}
+			else
+			{
+				written = copy(encodedSlug, 0, encodedSlug.length, output, written);
+			}
+			output[written++] = '}';
+			output[written++] = '\n';
+			copied = bounds[4 * i + 3] + 1;
+		}
+		if (copied < contentEnd)
+		{
+			written = copy(content, copied, contentEnd, output, written);
+		}
+		if (written < output.length)
+		{
+			output[written] = '\n';
+		}
+		context.headings = headings;
+		context.headingLevels = levels;
+		context.slugs = slugs;
+		context.toc = tocBuilder.toString();
+		return output;
+	}
+
+	private static int copy(byte[] source, int start, int end, byte[] target, int position)
+	{
+		System.arraycopy(source, start, target, position, end - start);
+		return position + end - start;
+	}
+
+	private static boolean isAscii(String value)
+	{
+		for (int i = 0; i < value.length(); i++)
+		{
+			if (value.charAt(i) >= 0x80)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the level of a trimmed line, mirrors {@link HeadingLineParser#level} in the byte domain
+	 *
+	 * @return the heading level, or 0 if the line is not a heading
+	 */
+	static int level(byte[] content, int trimmedStart, int trimmedEnd)
+	{
+		int hashEnd = trimmedStart;
+		while (hashEnd < trimmedEnd && content[hashEnd] == '#'
+			&& hashEnd - trimmedStart < HeadingLineParser.MAX_LEVEL)
+		{
+			hashEnd++;
+		}
+		// at least one char must follow the space, the trimmed end is never a space
+		if (hashEnd + 1 >= trimmedEnd || content[hashEnd] != ' ')
+		{
+			return 0;
+		}
+		for (int i = hashEnd + 1; i < trimmedEnd; i++)
+		{
+			byte b = content[i];
+			if (b == '\r')
+			{
+				return 0;
+			}
+			// U+0085 is C2 85, U+2028 and U+2029 are E2 80 A8 and E2 80 A9
+			if (b == (byte)0xC2 && i + 1 < trimmedEnd && content[i + 1] == (byte)0x85)
+			{
+				return 0;
+			}
+			if (b == (byte)0xE2 && i + 2 < trimmedEnd && content[i + 1] == (byte)0x80
+				&& (content[i + 2] == (byte)0xA8 || content[i + 2] == (byte)0xA9))
+			{
+				return 0;
+			}
+		}
+		return hashEnd - trimmedStart;
+	}
+
+	/**
+	 * Whether the byte is a char that {@link String#trim()} removes, multi-byte sequences never
+	 * contain such bytes
+	 */
+	private static boolean isWhitespace(byte b)
+	{
+		return b >= 0 && b <= ' ';
+	}
+
+	private static int indexOfNewline(byte[] content, int from, int to)
+	{
+		for (int i = from; i < to; i++)
+		{
+			if (content[i] == '\n')
+			{
+				return i;
+			}
+		}
+		return to;
+	}
+}
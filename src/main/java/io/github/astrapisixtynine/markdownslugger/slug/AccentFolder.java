@@ -0,0 +1,181 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.slug;
+
+import java.text.Normalizer;
+
+/**
+ * Table driven removal of accents that produces the same result as NFD normalization followed by
+ * the removal of all characters of the Unicode block Combining Diacritical Marks
+ *
+ * Pure ASCII input is returned as is without any work. Precomposed letters of the Latin, Greek and
+ * Cyrillic blocks are folded with a table that is computed once from {@link Normalizer}. Only runs
+ * of characters that are not covered by the table, such as standalone combining marks, CJK or
+ * emoji, are passed to the Normalizer. Letters are canonical starters, so canonical reordering
+ * never crosses a table character and folding the runs separately yields the same result as
+ * normalizing the whole input.
+ */
+public final class AccentFolder
+{
+	/**
+	 * Characters below this limit may be covered by the folding table
+	 */
+	private static final int TABLE_SIZE = 0x2000;
+
+	/**
+	 * The first character of the Unicode block Combining Diacritical Marks
+	 */
+	private static final char FIRST_MARK = '\u0300';
+
+	/**
+	 * The last character of the Unicode block Combining Diacritical Marks
+	 */
+	private static final char LAST_MARK = '\u036F';
+
+	/**
+	 * The folded form of each covered non-ASCII character, or null if the character is not covered
+	 */
+	private static final String[] FOLDED = buildTable();
+
+	private AccentFolder()
+	{
+	}
+
+	/**
+	 * Removes accents from the given text
+	 *
+	 * @param text
+	 *            the text to fold
+	 * @return the folded text, or the given text itself if it consists of ASCII characters only
+	 */
+	public static String fold(String text)
+	{
+		int length = text.length();
+		for (int i = 0; i < length; i++)
+		{
+			if (text.charAt(i) >= 0x80)
+			{
+				return foldFrom(text, i, new StringBuilder(length).append(text, 0, i)).toString();
+			}
+		}
+		return text;
+	}
+
+	/**
+	 * Removes accents from the given text and appends the result
+	 *
+	 * @param text
+	 *            the text to fold
+	 * @param out
+	 *            the builder the folded text is appended to
+	 * @return the given builder
+	 */
+	public static StringBuilder fold(CharSequence text, StringBuilder out)
+	{
+		return foldFrom(text, 0, out);
+	}
+
+	private static StringBuilder foldFrom(CharSequence text, int position, StringBuilder out)
+	{
+		int length = text.length();
+		while (position < length)
+		{
+			char c = text.charAt(position);
+			if (c < 0x80)
+			{
+				out.append(c);
+				position++;
+				continue;
+			}
+			String folded = c < TABLE_SIZE ? FOLDED[c] : null;
+			if (folded != null)
+			{
+				out.append(folded);
+				position++;
+				continue;
+			}
+			int end = position + 1;
+			while (end < length && !isCovered(text.charAt(end)))
+			{
+				end++;
+			}
+			String normalized = Normalizer
+				.normalize(text.subSequence(position, end), Normalizer.Form.NFD);
+			appendWithoutMarks(normalized, out);
+			position = end;
+		}
+		return out;
+	}
+
+	private static boolean isCovered(char c)
+	{
+		return c < 0x80 || (c < TABLE_SIZE && FOLDED[c] != null);
+	}
+
+	private static void appendWithoutMarks(CharSequence text, StringBuilder out)
+	{
+		for (int i = 0; i < text.length(); i++)
+		{
+			char c = text.charAt(i);
+			if (c < FIRST_MARK || c > LAST_MARK)
+			{
+				out.append(c);
+			}
+		}
+	}
+
+	/**
+	 * Computes the folded form of every letter below the table limit whose canonical
+	 * decomposition is a single letter followed only by combining diacritical marks
+	 */
+	private static String[] buildTable()
+	{
+		String[] table = new String[TABLE_SIZE];
+		for (char c = 0x80; c < TABLE_SIZE; c++)
+		{
+			if (!Character.isLetter(c))
+			{
+				continue;
+			}
+			String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+			char base = decomposed.charAt(0);
+			if (!Character.isLetter(base) || (base >= FIRST_MARK && base <= LAST_MARK))
+			{
+				continue;
+			}
+			boolean onlyMarks = true;
+			for (int i = 1; i < decomposed.length(); i++)
+			{
+				char mark = decomposed.charAt(i);
+				onlyMarks &= mark >= FIRST_MARK && mark <= LAST_MARK;
+			}
+			if (onlyMarks)
+			{
+				table[c] = String.valueOf(base);
+			}
+		}
+		return table;
+	}
+}
@@ -0,0 +1,268 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.slug;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SlugStrategy decorator that memoizes the slugs of recently seen headings
+ *
+ * The cache is bounded by a maximum number of entries and evicts the least recently used heading
+ * once it is full. Entries are distributed over independently locked segments so that the cache
+ * can be shared across worker threads without a global lock. The delegate strategy must be
+ * deterministic, i.e. it must always return the same slug for the same heading.
+ */
+public class CachingSlugStrategy implements SlugStrategy
+{
+	/**
+	 * The maximum number of segments the entries are distributed over
+	 */
+	private static final int MAX_SEGMENTS = 16;
+
+	/**
+	 * The strategy that computes slugs on a cache miss
+	 */
+	private final SlugStrategy delegate;
+
+	/**
+	 * The independently locked LRU segments
+	 */
+	private final Segment[] segments;
+
+	/**
+	 * Bit mask used to select the segment of a heading
+	 */
+	private final int segmentMask;
+
+	/**
+	 * The number of lookups that were answered from the cache
+	 */
+	private final LongAdder hitCount = new LongAdder();
+
+	/**
+	 * The number of lookups that had to call the delegate strategy
+	 */
+	private final LongAdder missCount = new LongAdder();
+
+	/**
+	 * The number of entries removed because the cache was full
+	 */
+	private final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * Constructs a CachingSlugStrategy that wraps the given strategy
+	 *
+	 * @param delegate
+	 *            the strategy to use for generating slugs on a cache miss
+	 * @param maximumSize
+	 *            the maximum number of headings to keep in the cache
+	 * @throws IllegalArgumentException
+	 *             if the maximum size is not positive
+	 */
+	public CachingSlugStrategy(SlugStrategy delegate, int maximumSize)
+	{
+		if (maximumSize <= 0)
+		{
+			throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+		}
+		this.delegate = delegate;
+		int segmentCount = Integer
+			.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, maximumSize / MAX_SEGMENTS)));
+		this.segments = new Segment[segmentCount];
+		for (int i = 0; i < segmentCount; i++)
+		{
+			int capacity = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+			segments[i] = new Segment(capacity);
+		}
+		this.segmentMask = segmentCount - 1;
+	}
+
+	/**
+	 * Returns the cached slug of the given heading or computes and caches it with the delegate
+	 * strategy
+	 *
+	 * @param heading
+	 *            the original heading text
+	 * @return the slug of the heading
+	 */
+	@Override
+	public String toSlug(String heading)
+	{
+		Segment segment = segmentFor(heading);
+		String slug = segment.get(heading);
+		if (slug != null)
+		{
+			hitCount.increment();
+			return slug;
+		}
+		missCount.increment();
+		// computed outside of the segment lock, a concurrent miss may compute the same slug twice
+		slug = delegate.toSlug(heading);
+		segment.put(heading, slug);
+		return slug;
+	}
+
+	/**
+	 * Removes all entries from the cache, the counters are not reset
+	 */
+	public void clear()
+	{
+		for (Segment segment : segments)
+		{
+			segment.clear();
+		}
+	}
+
+	/**
+	 * Gets the number of headings currently cached
+	 *
+	 * @return the number of cached entries
+	 */
+	public int size()
+	{
+		int size = 0;
+		for (Segment segment : segments)
+		{
+			size += segment.size();
+		}
+		return size;
+	}
+
+	/** @return the number of lookups that were answered from the cache */
+	public long getHitCount()
+	{
+		return hitCount.sum();
+	}
+
+	/** @return the number of lookups that had to call the delegate strategy */
+	public long getMissCount()
+	{
+		return missCount.sum();
+	}
+
+	/** @return the number of entries removed because the cache was full */
+	public long getEvictionCount()
+	{
+		return evictionCount.sum();
+	}
+
+	/** @return the ratio of hits to all lookups, or 0 if there were no lookups */
+	public double getHitRate()
+	{
+		long hits = getHitCount();
+		long total = hits + getMissCount();
+		return total == 0 ? 0.0 : (double)hits / total;
+	}
+
+	private Segment segmentFor(String heading)
+	{
+		int hash = heading.hashCode();
+		return segments[(hash ^ (hash >>> 16)) & segmentMask];
+	}
+
+	/**
+	 * A single LRU segment guarded by its own lock
+	 */
+	private final class Segment
+	{
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private final Map<String, String> entries;
+
+		Segment(int capacity)
+		{
+			this.entries = new LinkedHashMap<>(16, 0.75f, true)
+			{
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, String> eldest)
+				{
+					if (size() > capacity)
+					{
+						evictionCount.increment();
+						return true;
+					}
+					return false;
+				}
+			};
+		}
+
+		String get(String heading)
+		{
+			lock.lock();
+			try
+			{
+				return entries.get(heading);
+			}
+			finally
+			{
+				lock.unlock();
+			}
+		}
+
+		void put(String heading, String slug)
+		{
+			lock.lock();
+			try
+			{
+				entries.put(heading, slug);
+			}
+			finally
+			{
+				lock.unlock();
+			}
+		}
+
+		void clear()
+		{
+			lock.lock();
+			try
+			{
+				entries.clear();
+			}
+			finally
+			{
+				lock.unlock();
+			}
+		}
+
+		int size()
+		{
+			lock.lock();
+			try
+			{
+				return entries.size();
+			}
+			finally
+			{
+				lock.unlock();
+			}
+		}
+	}
+}
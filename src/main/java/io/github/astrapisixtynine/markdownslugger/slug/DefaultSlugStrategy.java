@@ -24,10 +24,6 @@
  */
 package io.github.astrapisixtynine.markdownslugger.slug;
 
-import java.text.Normalizer;
-import java.util.Map;
-import java.util.regex.Pattern;
-
 /**
  * Default implementation of the SlugStrategy interface Converts headings to lowercase, removes
  * special characters, and replaces spaces with dashes
@@ -41,6 +37,11 @@ public class DefaultSlugStrategy implements SlugStrategy
 	 */
 	private final SlugifyConfig config;
 
+	/**
+	 * The precompiled form of the configuration that is executed for every heading
+	 */
+	private final SlugProgram program;
+
 	/**
 	 * Constructs a DefaultSlugStrategy with the specified slugification configuration
 	 *
@@ -50,6 +51,17 @@ public class DefaultSlugStrategy implements SlugStrategy
 	public DefaultSlugStrategy(SlugifyConfig config)
 	{
 		this.config = config;
+		this.program = SlugProgram.compile(config);
+	}
+
+	/**
+	 * Gets the configuration this strategy was created with
+	 *
+	 * @return the SlugifyConfig of this strategy
+	 */
+	public SlugifyConfig getConfig()
+	{
+		return config;
 	}
 
 	/**
@@ -63,52 +75,22 @@ public class DefaultSlugStrategy implements SlugStrategy
 	@Override
 	public String toSlug(String heading)
 	{
-		String slug = heading;
-
-		// 1. Apply custom replacements (e.g., ä → ae, é → e)
-		for (Map.Entry<String, String> entry : config.getReplacements().entrySet())
-		{
-			slug = slug.replace(entry.getKey(), entry.getValue());
-		}
-
-		// 2. Optionally remove accents (Unicode normalization)
-		if (config.isRemoveAccents())
-		{
-			slug = Normalizer.normalize(slug, Normalizer.Form.NFD)
-				.replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
-		}
-
-		// 3. Convert to lowercase if enabled
-		if (config.isToLowerCase())
-		{
-			slug = slug.toLowerCase();
-		}
-
-		// 4. Optionally remove non-alphanumeric characters (excluding space and dash)
-		if (config.isStripNonAlphanumeric())
-		{
-			slug = slug.replaceAll(config.getAllowedCharactersRegex(), "");
-
-		}
-
-		// 5. Replace all whitespace with the configured replacement (e.g., "-")
-		slug = slug.replaceAll("\\s+", config.getWhitespaceReplacement());
-
-		// 6. Optionally collapse multiple separators into one
-		if (config.isCollapseDashes())
-		{
-			String sep = Pattern.quote(config.getWhitespaceReplacement());
-			slug = slug.replaceAll(sep + "{2,}", config.getWhitespaceReplacement());
-		}
-
-		// 7. Optionally trim leading/trailing separators
-		if (config.isTrimEdges())
-		{
-			String sep = Pattern.quote(config.getWhitespaceReplacement());
-			slug = slug.replaceAll("^" + sep + "+", "").replaceAll(sep + "+$", "");
-		}
+		return program.apply(heading);
+	}
 
-		return slug;
+	/**
+	 * Converts the given heading to a slug and appends it without creating intermediate strings
+	 *
+	 * @param heading
+	 *            the heading text to slugify
+	 * @param out
+	 *            the builder the slug is appended to
+	 * @return the given builder
+	 */
+	@Override
+	public StringBuilder toSlug(CharSequence heading, StringBuilder out)
+	{
+		return program.apply(heading, out);
 	}
 
 }
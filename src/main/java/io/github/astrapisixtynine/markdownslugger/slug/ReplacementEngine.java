@@ -0,0 +1,220 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.slug;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Precompiled engine that applies a map of string replacements in a single left-to-right pass
+ *
+ * The replacement keys are compiled once into a trie. At every position of the input the longest
+ * key that starts there is replaced, and scanning continues behind the replaced key, so the
+ * result does not depend on the iteration order of the replacement map and replaced text is never
+ * replaced again. Characters below {@code U+0800}, which covers Latin, Greek and Cyrillic, are
+ * looked up in a direct table instead of the trie. Instances are immutable and thread-safe.
+ */
+public final class ReplacementEngine
+{
+	/**
+	 * Characters below this limit are resolved with a direct table lookup
+	 */
+	private static final int TABLE_SIZE = 0x0800;
+
+	/**
+	 * Direct lookup table for the first character of a key
+	 */
+	private final Node[] table = new Node[TABLE_SIZE];
+
+	/**
+	 * Trie nodes for first characters at or above the table limit
+	 */
+	private final Node root;
+
+	private ReplacementEngine(Map<String, String> replacements)
+	{
+		Node builder = new Node();
+		// a sorted map gives the trie a deterministic layout regardless of the input map
+		for (Map.Entry<String, String> entry : new TreeMap<>(replacements).entrySet())
+		{
+			String key = entry.getKey();
+			if (key.isEmpty())
+			{
+				throw new IllegalArgumentException("replacement keys must not be empty");
+			}
+			Node node = builder;
+			for (int i = 0; i < key.length(); i++)
+			{
+				node = node.childOrCreate(key.charAt(i));
+			}
+			node.value = entry.getValue();
+		}
+		for (int i = 0; i < builder.labels.length; i++)
+		{
+			if (builder.labels[i] < TABLE_SIZE)
+			{
+				table[builder.labels[i]] = builder.children[i];
+			}
+		}
+		this.root = builder;
+	}
+
+	/**
+	 * Compiles the given replacements into an engine
+	 *
+	 * @param replacements
+	 *            the replacements to apply, keys must not be empty
+	 * @return the compiled engine
+	 * @throws IllegalArgumentException
+	 *             if a key is empty
+	 */
+	public static ReplacementEngine compile(Map<String, String> replacements)
+	{
+		return new ReplacementEngine(replacements);
+	}
+
+	/**
+	 * Applies all replacements to the given text
+	 *
+	 * @param text
+	 *            the text to transform
+	 * @return the transformed text, or the given text itself if no key occurs in it
+	 */
+	public String apply(String text)
+	{
+		int length = text.length();
+		for (int i = 0; i < length; i++)
+		{
+			if (firstNode(text.charAt(i)) != null)
+			{
+				StringBuilder out = new StringBuilder(length + 16).append(text, 0, i);
+				applyFrom(text, i, out);
+				return out.toString();
+			}
+		}
+		return text;
+	}
+
+	/**
+	 * Applies all replacements to the given text and appends the result
+	 *
+	 * @param text
+	 *            the text to transform
+	 * @param out
+	 *            the builder the transformed text is appended to
+	 * @return the given builder
+	 */
+	public StringBuilder apply(CharSequence text, StringBuilder out)
+	{
+		applyFrom(text, 0, out);
+		return out;
+	}
+
+	private void applyFrom(CharSequence text, int position, StringBuilder out)
+	{
+		int length = text.length();
+		while (position < length)
+		{
+			char c = text.charAt(position);
+			Node node = firstNode(c);
+			String longest = null;
+			int longestEnd = position;
+			for (int i = position; node != null;)
+			{
+				if (node.value != null)
+				{
+					longest = node.value;
+					longestEnd = i + 1;
+				}
+				if (++i == length)
+				{
+					break;
+				}
+				node = node.child(text.charAt(i));
+			}
+			if (longest == null)
+			{
+				out.append(c);
+				position++;
+			}
+			else
+			{
+				out.append(longest);
+				position = longestEnd;
+			}
+		}
+	}
+
+	private Node firstNode(char c)
+	{
+		return c < TABLE_SIZE ? table[c] : root.child(c);
+	}
+
+	/**
+	 * A trie node with children sorted by their label
+	 */
+	private static final class Node
+	{
+		private char[] labels = new char[0];
+
+		private Node[] children = new Node[0];
+
+		/**
+		 * The replacement of the key that ends at this node, or null
+		 */
+		private String value;
+
+		Node child(char label)
+		{
+			int index = Arrays.binarySearch(labels, label);
+			return index < 0 ? null : children[index];
+		}
+
+		Node childOrCreate(char label)
+		{
+			int index = Arrays.binarySearch(labels, label);
+			if (index >= 0)
+			{
+				return children[index];
+			}
+			int insertion = -index - 1;
+			char[] newLabels = new char[labels.length + 1];
+			Node[] newChildren = new Node[children.length + 1];
+			System.arraycopy(labels, 0, newLabels, 0, insertion);
+			System.arraycopy(children, 0, newChildren, 0, insertion);
+			System.arraycopy(labels, insertion, newLabels, insertion + 1,
+				labels.length - insertion);
+			System.arraycopy(children, insertion, newChildren, insertion + 1,
+				children.length - insertion);
+			Node child = new Node();
+			newLabels[insertion] = label;
+			newChildren[insertion] = child;
+			labels = newLabels;
+			children = newChildren;
+			return child;
+		}
+	}
+}
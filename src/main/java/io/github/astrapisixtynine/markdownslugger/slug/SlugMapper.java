@@ -24,8 +24,12 @@
  */
 package io.github.astrapisixtynine.markdownslugger.slug;
 
+import java.util.Set;
+
+import io.github.astrapisixtynine.markdownslugger.core.HeadingTable;
 import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
 import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessingStep;
+import io.github.astrapisixtynine.markdownslugger.core.PipelineArtifact;
 
 /**
  * Processing step that generates slugs from extracted headings Uses the configured SlugStrategy to
@@ -60,9 +64,33 @@ public class SlugMapper implements MarkdownProcessingStep
 	@Override
 	public void process(MarkdownContext context)
 	{
+		HeadingTable table = context.headingTable;
+		if (table.backs(context.headings))
+		{
+			StringBuilder slug = new StringBuilder(32);
+			for (int i = table.slugCount(); i < table.size(); i++)
+			{
+				slug.setLength(0);
+				table.addSlug(slugStrategy.toSlug(table.headingView(i), slug));
+			}
+			context.slugs = table.slugs();
+			return;
+		}
 		for (String heading : context.headings)
 		{
 			context.slugs.add(slugStrategy.toSlug(heading));
 		}
 	}
+
+	@Override
+	public Set<PipelineArtifact> produces()
+	{
+		return Set.of(PipelineArtifact.SLUGS);
+	}
+
+	@Override
+	public Set<PipelineArtifact> consumes()
+	{
+		return Set.of(PipelineArtifact.HEADINGS);
+	}
 }
@@ -0,0 +1,580 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.slug;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable, precompiled form of a {@link SlugifyConfig}
+ *
+ * A SlugProgram is an ordered sequence of transformation stages derived from the configuration
+ * once. Disabled stages are omitted entirely, patterns are compiled only once and whitespace
+ * replacement, separator collapsing and edge trimming are fused into a single character loop
+ * whenever the whitespace replacement is a single literal character. Instances are thread-safe
+ * and can be shared freely.
+ *
+ * {@link #apply(CharSequence, StringBuilder)} runs the stages between two thread-local scratch
+ * builders and lets the last stage append to the caller's builder, so no intermediate strings are
+ * created. Stages without an appending form, i.e. regex separators, character filters that are not
+ * a single character class and headings with characters beyond the filter table, fall back to the
+ * string based form.
+ */
+public final class SlugProgram
+{
+	/**
+	 * Pattern for runs of whitespace as used by the original slug algorithm
+	 */
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	/**
+	 * Pattern for a regex that consists of a single character class without nested classes
+	 */
+	private static final Pattern SINGLE_CHARACTER_CLASS = Pattern
+		.compile("\\[[^\\[\\]\\\\]*(?:\\\\.[^\\[\\]\\\\]*)*\\]");
+
+	/**
+	 * The number of characters covered by the precomputed character filter table
+	 */
+	private static final int FILTER_TABLE_SIZE = 0x0800;
+
+	/**
+	 * Scratch builders larger than this are released after use instead of being retained
+	 */
+	private static final int MAX_SCRATCH_CAPACITY = 4096;
+
+	/**
+	 * Two scratch builders per thread the intermediate results alternate between
+	 */
+	private static final ThreadLocal<StringBuilder[]> SCRATCH = ThreadLocal
+		.withInitial(() -> new StringBuilder[] { new StringBuilder(64), new StringBuilder(64) });
+
+	/**
+	 * The compiled stages in execution order
+	 */
+	private final SlugStage[] stages;
+
+	private SlugProgram(SlugStage[] stages)
+	{
+		this.stages = stages;
+	}
+
+	/**
+	 * Compiles the given configuration into a SlugProgram
+	 *
+	 * @param config
+	 *            the SlugifyConfig that controls how headings are transformed into slugs
+	 * @return the compiled SlugProgram
+	 * @throws java.util.regex.PatternSyntaxException
+	 *             if the configuration contains an invalid regular expression or a separator that
+	 *             cannot be used for trimming
+	 * @throws IllegalArgumentException
+	 *             if a replacement key is empty
+	 */
+	public static SlugProgram compile(SlugifyConfig config)
+	{
+		List<SlugStage> stages = new ArrayList<>();
+		// 1. custom replacements
+		if (!config.getReplacements().isEmpty())
+		{
+			stages.add(new ReplacementStage(ReplacementEngine.compile(config.getReplacements())));
+		}
+		// 2. accent removal
+		if (config.isRemoveAccents())
+		{
+			stages.add(new AccentStage());
+		}
+		// 3. lowercase
+		if (config.isToLowerCase())
+		{
+			stages.add(new LowerCaseStage());
+		}
+		// 4. strip disallowed characters
+		if (config.isStripNonAlphanumeric())
+		{
+			stages.add(new FilterStage(config.getAllowedCharactersRegex()));
+		}
+		// 5. - 7. whitespace replacement, separator collapsing and edge trimming
+		String separator = config.getWhitespaceReplacement();
+		if (isLiteralCharacter(separator))
+		{
+			stages.add(new SeparatorStage(separator.charAt(0), config.isCollapseDashes(),
+				config.isTrimEdges()));
+		}
+		else
+		{
+			addRegexSeparatorStages(stages, separator, config);
+		}
+		return new SlugProgram(stages.toArray(new SlugStage[0]));
+	}
+
+	/**
+	 * Converts the given heading to a slug by running all compiled stages
+	 *
+	 * @param heading
+	 *            the heading text to slugify
+	 * @return the slug
+	 */
+	public String apply(String heading)
+	{
+		String slug = heading;
+		for (SlugStage stage : stages)
+		{
+			slug = stage.apply(slug);
+		}
+		return slug;
+	}
+
+	/**
+	 * Converts the given heading to a slug by running all compiled stages and appends the result
+	 * without creating intermediate strings
+	 *
+	 * @param heading
+	 *            the heading text to slugify, must not be the given builder
+	 * @param out
+	 *            the builder the slug is appended to
+	 * @return the given builder
+	 */
+	public StringBuilder apply(CharSequence heading, StringBuilder out)
+	{
+		if (stages.length == 0)
+		{
+			return out.append(heading);
+		}
+		StringBuilder[] scratch = SCRATCH.get();
+		CharSequence slug = heading;
+		int last = stages.length - 1;
+		for (int i = 0; i < last; i++)
+		{
+			StringBuilder target = scratch[i & 1];
+			target.setLength(0);
+			stages[i].apply(slug, target);
+			slug = target;
+		}
+		stages[last].apply(slug, out);
+		for (StringBuilder buffer : scratch)
+		{
+			buffer.setLength(0);
+			if (buffer.capacity() > MAX_SCRATCH_CAPACITY)
+			{
+				buffer.trimToSize();
+			}
+		}
+		return out;
+	}
+
+	/**
+	 * Checks whether the separator can be handled by the fused separator loop
+	 *
+	 * Separators that are empty, longer than one character, or that have a special meaning in a
+	 * regex replacement string keep the original regex semantics
+	 */
+	private static boolean isLiteralCharacter(String separator)
+	{
+		return separator.length() == 1 && separator.charAt(0) != '$'
+			&& separator.charAt(0) != '\\';
+	}
+
+	/**
+	 * Adds stages that reproduce the original regex based separator handling for separators that
+	 * are not a single literal character
+	 */
+	private static void addRegexSeparatorStages(List<SlugStage> stages, String separator,
+		SlugifyConfig config)
+	{
+		stages.add(slug -> WHITESPACE.matcher(slug).replaceAll(separator));
+		String quoted = Pattern.quote(separator);
+		if (config.isCollapseDashes())
+		{
+			Pattern repeated = Pattern.compile(quoted + "{2,}");
+			stages.add(slug -> repeated.matcher(slug).replaceAll(separator));
+		}
+		if (config.isTrimEdges())
+		{
+			Pattern leading = Pattern.compile("^" + quoted + "+");
+			Pattern trailing = Pattern.compile(quoted + "+$");
+			stages.add(slug -> trailing.matcher(leading.matcher(slug).replaceAll(""))
+				.replaceAll(""));
+		}
+	}
+
+	/**
+	 * A single transformation applied to an intermediate slug
+	 */
+	@FunctionalInterface
+	interface SlugStage
+	{
+		/**
+		 * Transforms the intermediate slug
+		 *
+		 * @param slug
+		 *            the intermediate slug
+		 * @return the transformed slug
+		 */
+		String apply(String slug);
+
+		/**
+		 * Transforms the intermediate slug and appends the result, by default through the string
+		 * based form
+		 *
+		 * @param slug
+		 *            the intermediate slug
+		 * @param out
+		 *            the builder the transformed slug is appended to
+		 */
+		default void apply(CharSequence slug, StringBuilder out)
+		{
+			out.append(apply(slug.toString()));
+		}
+	}
+
+	/**
+	 * Stage that applies the custom replacements
+	 */
+	static final class ReplacementStage implements SlugStage
+	{
+		private final ReplacementEngine engine;
+
+		ReplacementStage(ReplacementEngine engine)
+		{
+			this.engine = engine;
+		}
+
+		@Override
+		public String apply(String slug)
+		{
+			return engine.apply(slug);
+		}
+
+		@Override
+		public void apply(CharSequence slug, StringBuilder out)
+		{
+			engine.apply(slug, out);
+		}
+	}
+
+	/**
+	 * Stage that removes accents
+	 */
+	static final class AccentStage implements SlugStage
+	{
+		@Override
+		public String apply(String slug)
+		{
+			return AccentFolder.fold(slug);
+		}
+
+		@Override
+		public void apply(CharSequence slug, StringBuilder out)
+		{
+			AccentFolder.fold(slug, out);
+		}
+	}
+
+	/**
+	 * Stage that converts the slug to lower case with the rules of the default locale
+	 */
+	static final class LowerCaseStage implements SlugStage
+	{
+		@Override
+		public String apply(String slug)
+		{
+			return slug.toLowerCase();
+		}
+
+		@Override
+		public void apply(CharSequence slug, StringBuilder out)
+		{
+			int length = slug.length();
+			for (int i = 0; i < length; i++)
+			{
+				if (slug.charAt(i) >= 0x80)
+				{
+					out.append(apply(slug.toString()));
+					return;
+				}
+			}
+			// only the Turkic locales lower case ASCII letters differently
+			String language = Locale.getDefault().getLanguage();
+			if (language.equals("tr") || language.equals("az"))
+			{
+				out.append(apply(slug.toString()));
+				return;
+			}
+			for (int i = 0; i < length; i++)
+			{
+				char c = slug.charAt(i);
+				out.append(c >= 'A' && c <= 'Z' ? (char)(c + ('a' - 'A')) : c);
+			}
+		}
+	}
+
+	/**
+	 * Stage that removes every match of the disallowed characters regex
+	 *
+	 * If the regex is a single character class, whether a character is removed is precomputed for
+	 * the characters below the table limit
+	 */
+	static final class FilterStage implements SlugStage
+	{
+		private final Pattern disallowed;
+
+		/**
+		 * Whether a character is removed, null if the regex is not a single character class
+		 */
+		private final boolean[] removed;
+
+		FilterStage(String regex)
+		{
+			this.disallowed = Pattern.compile(regex);
+			this.removed = SINGLE_CHARACTER_CLASS.matcher(regex).matches() ? buildTable(disallowed)
+				: null;
+		}
+
+		@Override
+		public String apply(String slug)
+		{
+			return disallowed.matcher(slug).replaceAll("");
+		}
+
+		@Override
+		public void apply(CharSequence slug, StringBuilder out)
+		{
+			int length = slug.length();
+			if (removed == null)
+			{
+				out.append(apply(slug.toString()));
+				return;
+			}
+			for (int i = 0; i < length; i++)
+			{
+				if (slug.charAt(i) >= FILTER_TABLE_SIZE)
+				{
+					out.append(apply(slug.toString()));
+					return;
+				}
+			}
+			for (int i = 0; i < length; i++)
+			{
+				char c = slug.charAt(i);
+				if (!removed[c])
+				{
+					out.append(c);
+				}
+			}
+		}
+
+		private static boolean[] buildTable(Pattern disallowed)
+		{
+			boolean[] table = new boolean[FILTER_TABLE_SIZE];
+			for (char c = 0; c < FILTER_TABLE_SIZE; c++)
+			{
+				table[c] = disallowed.matcher(String.valueOf(c)).matches();
+			}
+			return table;
+		}
+	}
+
+	/**
+	 * Fused stage that replaces whitespace runs with a single separator character, optionally
+	 * collapses repeated separators and optionally trims leading and trailing separators
+	 */
+	static final class SeparatorStage implements SlugStage
+	{
+		private final char separator;
+
+		private final boolean collapse;
+
+		private final boolean trim;
+
+		SeparatorStage(char separator, boolean collapse, boolean trim)
+		{
+			this.separator = separator;
+			this.collapse = collapse;
+			this.trim = trim;
+		}
+
+		@Override
+		public String apply(String slug)
+		{
+			int length = slug.length();
+			StringBuilder out = null;
+			boolean inWhitespace = false;
+			for (int i = 0; i < length; i++)
+			{
+				char c = slug.charAt(i);
+				boolean whitespace = isWhitespace(c);
+				if (whitespace && inWhitespace)
+				{
+					if (out == null)
+					{
+						out = new StringBuilder(length).append(slug, 0, i);
+					}
+					continue;
+				}
+				inWhitespace = whitespace;
+				char emitted = whitespace ? separator : c;
+				boolean skip = emitted == separator
+					&& ((collapse && endsWithSeparator(out, slug, i)) || (trim && isEmpty(out, i)));
+				if (out == null && (emitted != c || skip))
+				{
+					out = new StringBuilder(length).append(slug, 0, i);
+				}
+				if (out != null && !skip)
+				{
+					out.append(emitted);
+				}
+			}
+			String result = out == null ? slug : out.toString();
+			return trim ? trimTrailing(result) : result;
+		}
+
+		@Override
+		public void apply(CharSequence slug, StringBuilder out)
+		{
+			int start = out.length();
+			int length = slug.length();
+			boolean inWhitespace = false;
+			for (int i = 0; i < length; i++)
+			{
+				char c = slug.charAt(i);
+				boolean whitespace = isWhitespace(c);
+				if (whitespace && inWhitespace)
+				{
+					continue;
+				}
+				inWhitespace = whitespace;
+				char emitted = whitespace ? separator : c;
+				if (emitted == separator && ((collapse && endsWithSeparator(out, start))
+					|| (trim && out.length() == start)))
+				{
+					continue;
+				}
+				out.append(emitted);
+			}
+			if (trim)
+			{
+				trimTrailing(out, start);
+			}
+		}
+
+		/**
+		 * Checks whether the output produced so far ends with the separator
+		 */
+		private boolean endsWithSeparator(StringBuilder out, String slug, int position)
+		{
+			if (out != null)
+			{
+				return out.length() > 0 && out.charAt(out.length() - 1) == separator;
+			}
+			return position > 0 && slug.charAt(position - 1) == separator;
+		}
+
+		/**
+		 * Checks whether the chars appended to the output after the given start end with the
+		 * separator
+		 */
+		private boolean endsWithSeparator(StringBuilder out, int start)
+		{
+			return out.length() > start && out.charAt(out.length() - 1) == separator;
+		}
+
+		/**
+		 * Checks whether nothing has been produced so far
+		 */
+		private static boolean isEmpty(StringBuilder out, int position)
+		{
+			return out != null ? out.length() == 0 : position == 0;
+		}
+
+		/**
+		 * Removes trailing separators the same way as the regex {@code sep+$}, which also matches
+		 * in front of a final line terminator
+		 */
+		private String trimTrailing(String slug)
+		{
+			int end = slug.length();
+			int terminatorStart = end;
+			if (end > 0 && slug.charAt(end - 1) != separator
+				&& isFinalLineTerminator(slug.charAt(end - 1)))
+			{
+				terminatorStart = end - 1;
+			}
+			int trimmed = terminatorStart;
+			while (trimmed > 0 && slug.charAt(trimmed - 1) == separator)
+			{
+				trimmed--;
+			}
+			if (trimmed == terminatorStart)
+			{
+				return slug;
+			}
+			return slug.substring(0, trimmed) + slug.substring(terminatorStart);
+		}
+
+		/**
+		 * Removes trailing separators from the part of the builder starting at the given offset
+		 * the same way as {@link #trimTrailing(String)}
+		 */
+		private void trimTrailing(StringBuilder out, int start)
+		{
+			int end = out.length();
+			int terminatorStart = end;
+			if (end > start && out.charAt(end - 1) != separator
+				&& isFinalLineTerminator(out.charAt(end - 1)))
+			{
+				terminatorStart = end - 1;
+			}
+			int trimmed = terminatorStart;
+			while (trimmed > start && out.charAt(trimmed - 1) == separator)
+			{
+				trimmed--;
+			}
+			if (trimmed != terminatorStart)
+			{
+				out.delete(trimmed, terminatorStart);
+			}
+		}
+
+		/**
+		 * Checks whether the character is matched by the regex {@code \s}
+		 */
+		static boolean isWhitespace(char c)
+		{
+			return c == ' ' || (c >= '\t' && c <= '\r');
+		}
+
+		/**
+		 * Checks whether the regex boundary {@code $} matches in front of the character when it is
+		 * the last one of the input
+		 */
+		private static boolean isFinalLineTerminator(char c)
+		{
+			return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+		}
+	}
+}
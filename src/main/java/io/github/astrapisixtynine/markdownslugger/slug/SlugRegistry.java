@@ -0,0 +1,226 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.slug;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.astrapisixtynine.markdownslugger.core.HeadingTable;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+
+/**
+ * Corpus wide registry that makes slugs unique across all headings of all documents of a
+ * multi-file book
+ *
+ * The registry works in two phases. First every document registers the slugs produced by
+ * {@link SlugMapper} under its position in the book, concurrently and in any order. Then
+ * {@link #seal()} assigns the final slugs: the first occurrence of a slug in book order keeps it,
+ * every further occurrence gets the suffix {@code -1}, {@code -2} and so on, skipping suffixed
+ * slugs that are already used by another heading. Because occurrences are ordered by document and
+ * heading position instead of by arrival, the result does not depend on thread scheduling.
+ * Occurrences of a slug are counted per slug, so registering never takes a global lock, and the
+ * suffixes of different slugs are assigned in parallel.
+ *
+ * <pre>{@code
+ * // phase 1, in parallel: HeadingExtractor and SlugMapper, then
+ * registry.register(documentIndex, context);
+ * // after all documents are registered
+ * registry.seal();
+ * // phase 2, in parallel: apply, then TocGenerator and AnchorIdInjector
+ * registry.apply(documentIndex, context);
+ * }</pre>
+ */
+public class SlugRegistry
+{
+	/**
+	 * The slugs registered by every document, replaced by the unique slugs when sealed
+	 */
+	private final ConcurrentHashMap<Integer, String[]> documentSlugs = new ConcurrentHashMap<>();
+
+	/**
+	 * The occurrences of every registered slug
+	 */
+	private final ConcurrentHashMap<String, Occurrences> occurrences = new ConcurrentHashMap<>();
+
+	/**
+	 * Whether the final slugs have been assigned
+	 */
+	private volatile boolean sealed;
+
+	/**
+	 * Registers the slugs of a document
+	 *
+	 * @param documentIndex
+	 *            the position of the document in the book
+	 * @param context
+	 *            the context with the slugs generated by {@link SlugMapper}
+	 * @throws IllegalStateException
+	 *             if the registry is already sealed or the document was already registered
+	 */
+	public void register(int documentIndex, MarkdownContext context)
+	{
+		register(documentIndex, context.slugs);
+	}
+
+	/**
+	 * Registers the slugs of a document
+	 *
+	 * @param documentIndex
+	 *            the position of the document in the book
+	 * @param slugs
+	 *            the slugs of the document in heading order
+	 * @throws IllegalStateException
+	 *             if the registry is already sealed or the document was already registered
+	 */
+	public void register(int documentIndex, List<String> slugs)
+	{
+		if (sealed)
+		{
+			throw new IllegalStateException("The registry is already sealed");
+		}
+		String[] registered = slugs.toArray(new String[0]);
+		if (documentSlugs.putIfAbsent(documentIndex, registered) != null)
+		{
+			throw new IllegalStateException("Document " + documentIndex + " is already registered");
+		}
+		for (int i = 0; i < registered.length; i++)
+		{
+			occurrences.computeIfAbsent(registered[i], slug -> new Occurrences())
+				.add(((long)documentIndex << 32) | i);
+		}
+	}
+
+	/**
+	 * Assigns the final unique slugs, all documents must have been registered before
+	 */
+	public void seal()
+	{
+		if (sealed)
+		{
+			return;
+		}
+		sealed = true;
+		occurrences.entrySet().parallelStream()
+			.forEach(entry -> assign(entry.getKey(), entry.getValue().sorted()));
+	}
+
+	/**
+	 * Gets the unique slugs of a document
+	 *
+	 * @param documentIndex
+	 *            the position of the document in the book
+	 * @return the unique slugs of the document in heading order
+	 * @throws IllegalStateException
+	 *             if the registry is not sealed yet
+	 * @throws IllegalArgumentException
+	 *             if the document was not registered
+	 */
+	public List<String> uniqueSlugs(int documentIndex)
+	{
+		if (!sealed)
+		{
+			throw new IllegalStateException("The registry is not sealed yet");
+		}
+		String[] slugs = documentSlugs.get(documentIndex);
+		if (slugs == null)
+		{
+			throw new IllegalArgumentException("Document " + documentIndex + " is not registered");
+		}
+		return List.of(slugs);
+	}
+
+	/**
+	 * Replaces the slugs of the given context with the unique slugs of the document
+	 *
+	 * @param documentIndex
+	 *            the position of the document in the book
+	 * @param context
+	 *            the context whose slugs are replaced
+	 */
+	public void apply(int documentIndex, MarkdownContext context)
+	{
+		List<String> slugs = uniqueSlugs(documentIndex);
+		HeadingTable table = context.headingTable;
+		if (table.backs(context.slugs))
+		{
+			table.clearSlugs();
+			for (String slug : slugs)
+			{
+				table.addSlug(slug);
+			}
+			return;
+		}
+		context.slugs = new ArrayList<>(slugs);
+	}
+
+	/**
+	 * Assigns the final slugs of all occurrences of a slug in book order
+	 */
+	private void assign(String slug, long[] positions)
+	{
+		int suffix = 0;
+		for (int i = 1; i < positions.length; i++)
+		{
+			String candidate;
+			do
+			{
+				candidate = slug + "-" + ++suffix;
+			}
+			// a suffixed slug can only collide with a registered slug, never with a suffixed slug
+			// of another registered slug, because suffixes consist of digits only
+			while (occurrences.containsKey(candidate));
+			documentSlugs.get((int)(positions[i] >>> 32))[(int)positions[i]] = candidate;
+		}
+	}
+
+	/**
+	 * The positions of all occurrences of a single slug, encoded as document index and heading
+	 * index
+	 */
+	private static final class Occurrences
+	{
+		private long[] positions = new long[2];
+
+		private int size;
+
+		synchronized void add(long position)
+		{
+			if (size == positions.length)
+			{
+				positions = Arrays.copyOf(positions, size * 2);
+			}
+			positions[size++] = position;
+		}
+
+		synchronized long[] sorted()
+		{
+			long[] sorted = Arrays.copyOf(positions, size);
+			Arrays.sort(sorted);
+			return sorted;
+		}
+	}
+}
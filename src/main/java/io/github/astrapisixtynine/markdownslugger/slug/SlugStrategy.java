@@ -38,4 +38,19 @@ public interface SlugStrategy
 	 * @return a slugified version of the heading suitable for anchor links
 	 */
 	String toSlug(String heading);
+
+	/**
+	 * Converts the given heading text into a URL-friendly slug and appends it to the given
+	 * builder, the default implementation delegates to {@link #toSlug(String)}
+	 *
+	 * @param heading
+	 *            the original heading text, e.g. a view of a larger buffer
+	 * @param out
+	 *            the caller-owned builder the slug is appended to
+	 * @return the given builder
+	 */
+	default StringBuilder toSlug(CharSequence heading, StringBuilder out)
+	{
+		return out.append(toSlug(heading.toString()));
+	}
 }
@@ -0,0 +1,436 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.watch;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import io.github.astrapisixtynine.markdownslugger.batch.DocumentResult;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessor;
+
+/**
+ * Long running watch mode that re-processes Markdown files of a directory tree when they change
+ *
+ * File events are collected by a single watch thread. Bursts of events for the same file, e.g. an
+ * editor that truncates and then writes a file, are coalesced until the file has been quiet for
+ * the debounce interval, then only that file is processed on a bounded worker pool. A file is never
+ * processed by two workers at the same time; changes during processing schedule another run.
+ * Because the processor lives for the whole session, a {@code CachingSlugStrategy} stays warm and
+ * the pipeline code stays JIT compiled between saves.
+ */
+public class MarkdownWatcher implements AutoCloseable
+{
+	/**
+	 * The root of the watched directory tree
+	 */
+	private final Path root;
+
+	/**
+	 * The processor that processes changed files
+	 */
+	private final MarkdownProcessor processor;
+
+	/**
+	 * The consumer that receives the result of every processed file
+	 */
+	private final Consumer<DocumentResult<Path>> consumer;
+
+	/**
+	 * The time a file must be quiet before it is processed
+	 */
+	private final long debounceNanos;
+
+	/**
+	 * Selects the files that are processed
+	 */
+	private final PathMatcher matcher;
+
+	/**
+	 * The watch service of the file system of the root
+	 */
+	private final WatchService watchService;
+
+	/**
+	 * The worker pool
+	 */
+	private final ExecutorService workers;
+
+	/**
+	 * The watched directory of every watch key
+	 */
+	private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+
+	/**
+	 * The files that are currently processed, mapped to whether they changed again meanwhile
+	 */
+	private final Map<Path, Boolean> running = new ConcurrentHashMap<>();
+
+	/**
+	 * The number of processed files, used as index of the results
+	 */
+	private final AtomicInteger sequence = new AtomicInteger();
+
+	/**
+	 * The thread that collects file events
+	 */
+	private final Thread watchThread;
+
+	/**
+	 * Constructs a MarkdownWatcher for all {@code .md} files of a directory tree
+	 *
+	 * @param root
+	 *            the root of the directory tree
+	 * @param processor
+	 *            the processor for changed files, it is shared by all workers
+	 * @param consumer
+	 *            the consumer that receives the result of every processed file, called from the
+	 *            worker threads
+	 * @param debounce
+	 *            the time a file must be quiet before it is processed
+	 * @param workerCount
+	 *            the number of worker threads
+	 * @throws IOException
+	 *             if the directory tree cannot be registered
+	 */
+	public MarkdownWatcher(Path root, MarkdownProcessor processor,
+		Consumer<DocumentResult<Path>> consumer, Duration debounce, int workerCount)
+		throws IOException
+	{
+		this(root, processor, consumer, debounce, workerCount,
+			root.getFileSystem().getPathMatcher("glob:**.md"));
+	}
+
+	/**
+	 * Constructs a MarkdownWatcher
+	 *
+	 * @param root
+	 *            the root of the directory tree
+	 * @param processor
+	 *            the processor for changed files, it is shared by all workers
+	 * @param consumer
+	 *            the consumer that receives the result of every processed file, called from the
+	 *            worker threads
+	 * @param debounce
+	 *            the time a file must be quiet before it is processed
+	 * @param workerCount
+	 *            the number of worker threads
+	 * @param matcher
+	 *            selects the files that are processed
+	 * @throws IOException
+	 *             if the directory tree cannot be registered
+	 */
+	public MarkdownWatcher(Path root, MarkdownProcessor processor,
+		Consumer<DocumentResult<Path>> consumer, Duration debounce, int workerCount,
+		PathMatcher matcher) throws IOException
+	{
+		if (workerCount < 1)
+		{
+			throw new IllegalArgumentException("workerCount must be positive: " + workerCount);
+		}
+		this.root = root.toAbsolutePath().normalize();
+		this.processor = processor;
+		this.consumer = consumer;
+		this.debounceNanos = debounce.toNanos();
+		this.matcher = matcher;
+		this.watchService = this.root.getFileSystem().newWatchService();
+		this.workers = Executors.newFixedThreadPool(workerCount,
+			Thread.ofPlatform().daemon().name("markdown-watcher-worker-", 0).factory());
+		this.watchThread = Thread.ofPlatform().daemon().name("markdown-watcher")
+			.unstarted(this::watch);
+		registerTree(this.root);
+	}
+
+	/**
+	 * Starts watching
+	 *
+	 * @return this watcher, enabling fluent chaining
+	 */
+	public MarkdownWatcher start()
+	{
+		watchThread.start();
+		return this;
+	}
+
+	/**
+	 * Processes all matching files of the directory tree once, e.g. to build the initial state
+	 * before watching
+	 *
+	 * @throws IOException
+	 *             if the directory tree cannot be read
+	 */
+	public void processAll() throws IOException
+	{
+		try (var files = Files.walk(root))
+		{
+			files.filter(Files::isRegularFile).filter(matcher::matches).forEach(this::submit);
+		}
+	}
+
+	/**
+	 * Stops watching and waits for running workers to complete
+	 */
+	@Override
+	public void close()
+	{
+		try
+		{
+			watchService.close();
+		}
+		catch (IOException e)
+		{
+			// the watch thread stops anyway once it is interrupted
+		}
+		watchThread.interrupt();
+		workers.close();
+	}
+
+	/**
+	 * Collects file events and submits every file that has been quiet for the debounce interval
+	 */
+	private void watch()
+	{
+		// the deadline of every changed file, only accessed by the watch thread
+		Map<Path, Long> pending = new HashMap<>();
+		try
+		{
+			while (!Thread.currentThread().isInterrupted())
+			{
+				long wait = pending.isEmpty()
+					? debounceNanos
+					: nextDeadline(pending) - System.nanoTime();
+				WatchKey key = wait > 0 ? watchService.poll(wait, TimeUnit.NANOSECONDS) : null;
+				while (key != null)
+				{
+					collect(key, pending);
+					key = watchService.poll();
+				}
+				long now = System.nanoTime();
+				for (Iterator<Map.Entry<Path, Long>> it = pending.entrySet().iterator(); it
+					.hasNext();)
+				{
+					Map.Entry<Path, Long> entry = it.next();
+					if (entry.getValue() - now <= 0)
+					{
+						it.remove();
+						submit(entry.getKey());
+					}
+				}
+			}
+		}
+		catch (InterruptedException | ClosedWatchServiceException e)
+		{
+			// closed
+		}
+	}
+
+	/**
+	 * Collects the events of a watch key, new directories are registered and their files processed
+	 */
+	private void collect(WatchKey key, Map<Path, Long> pending)
+	{
+		Path directory = directories.get(key);
+		long deadline = System.nanoTime() + debounceNanos;
+		for (WatchEvent<?> event : key.pollEvents())
+		{
+			if (directory == null)
+			{
+				continue;
+			}
+			if (event.kind() == OVERFLOW)
+			{
+				// events were lost, so every file below the directory may have changed
+				collectTree(directory, pending, deadline);
+				continue;
+			}
+			Path file = directory.resolve((Path)event.context());
+			if (event.kind() == ENTRY_CREATE && Files.isDirectory(file))
+			{
+				collectTree(file, pending, deadline);
+			}
+			else if (matcher.matches(file))
+			{
+				pending.put(file, deadline);
+			}
+		}
+		if (!key.reset())
+		{
+			directories.remove(key);
+		}
+	}
+
+	/**
+	 * Registers a directory tree and adds all its matching files with the given deadline
+	 */
+	private void collectTree(Path directory, Map<Path, Long> pending, long deadline)
+	{
+		try
+		{
+			registerTree(directory);
+			try (var files = Files.walk(directory))
+			{
+				files.filter(Files::isRegularFile).filter(matcher::matches)
+					.forEach(file -> pending.put(file, deadline));
+			}
+		}
+		catch (IOException | UncheckedIOException e)
+		{
+			// the directory was deleted again
+		}
+	}
+
+	/**
+	 * Submits a file to the workers unless it is already being processed, in which case the
+	 * running worker processes it again when it completes
+	 */
+	private void submit(Path file)
+	{
+		boolean[] idle = new boolean[1];
+		running.compute(file, (path, changed) -> {
+			idle[0] = changed == null;
+			return idle[0] ? Boolean.FALSE : Boolean.TRUE;
+		});
+		if (!idle[0])
+		{
+			return;
+		}
+		try
+		{
+			workers.execute(() -> process(file));
+		}
+		catch (RuntimeException e)
+		{
+			// rejected because the watcher is closed
+			running.remove(file);
+		}
+	}
+
+	/**
+	 * Processes a file until it did not change during processing
+	 */
+	private void process(Path file)
+	{
+		boolean completed = false;
+		try
+		{
+			do
+			{
+				if (Files.isRegularFile(file))
+				{
+					consumer.accept(processFile(sequence.getAndIncrement(), file));
+				}
+			}
+			// keeps the entry and clears the flag if the file changed, removes it otherwise
+			while (running.compute(file,
+				(path, changed) -> Boolean.TRUE.equals(changed) ? Boolean.FALSE : null) != null);
+			completed = true;
+		}
+		finally
+		{
+			if (!completed)
+			{
+				// the consumer or the processor threw, later changes must still be processed
+				running.remove(file);
+			}
+		}
+	}
+
+	private DocumentResult<Path> processFile(int index, Path file)
+	{
+		try
+		{
+			MarkdownContext context = new MarkdownContext();
+			context.originalContent = Files.readString(file);
+			processor.process(context);
+			return DocumentResult.success(index, file, context);
+		}
+		catch (VirtualMachineError e)
+		{
+			throw e;
+		}
+		catch (Throwable e)
+		{
+			return DocumentResult.failure(index, file, e);
+		}
+	}
+
+	private static long nextDeadline(Map<Path, Long> pending)
+	{
+		Iterator<Long> deadlines = pending.values().iterator();
+		long next = deadlines.next();
+		while (deadlines.hasNext())
+		{
+			long deadline = deadlines.next();
+			// compared by difference, nano times may overflow
+			if (deadline - next < 0)
+			{
+				next = deadline;
+			}
+		}
+		return next;
+	}
+
+	/**
+	 * Registers a directory and all its subdirectories
+	 */
+	private void registerTree(Path start) throws IOException
+	{
+		Files.walkFileTree(start, new SimpleFileVisitor<>()
+		{
+			@Override
+			public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes)
+				throws IOException
+			{
+				directories.put(directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY),
+					directory);
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+}
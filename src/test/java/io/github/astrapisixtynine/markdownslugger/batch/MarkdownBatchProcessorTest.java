@@ -0,0 +1,149 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessor;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugTestFixtures;
+
+/**
+ * Unit tests for the MarkdownBatchProcessor Validates parallel processing of contexts and files
+ * including the handling of failing documents
+ */
+class MarkdownBatchProcessorTest
+{
+	private final MarkdownProcessor processor = MarkdownProcessor.defaultPipeline(
+		SlugTestFixtures.defaultStrategy());
+
+	/**
+	 * Tests that contexts are processed on virtual threads and returned in input order
+	 */
+	@Test
+	void testProcessContextsWithVirtualThreads() throws Exception
+	{
+		List<MarkdownContext> contexts = new ArrayList<>();
+		for (int i = 0; i < 200; i++)
+		{
+			MarkdownContext context = new MarkdownContext();
+			context.originalContent = "# Heading " + i + "\ntext\n";
+			contexts.add(context);
+		}
+		try (MarkdownBatchProcessor batch = MarkdownBatchProcessor.withVirtualThreads(processor,
+			8))
+		{
+			BatchResult<MarkdownContext> result = batch.processContexts(contexts);
+			assertTrue(result.isAllSuccessful());
+			for (int i = 0; i < 200; i++)
+			{
+				DocumentResult<MarkdownContext> documentResult = result.getResults().get(i);
+				assertSame(contexts.get(i), documentResult.getContext());
+				assertEquals(List.of("heading-" + i), documentResult.getContext().slugs);
+			}
+		}
+	}
+
+	/**
+	 * Tests that a missing file is reported as a failure without aborting the batch
+	 */
+	@Test
+	void testProcessFilesWithFailure() throws Exception
+	{
+		Path directory = Files.createTempDirectory("batch");
+		Path first = Files.writeString(directory.resolve("first.md"), "# First\n");
+		Path missing = directory.resolve("missing.md");
+		Path second = Files.writeString(directory.resolve("second.md"), "## Second\n");
+
+		try (MarkdownBatchProcessor batch = MarkdownBatchProcessor.withForkJoinPool(processor, 2,
+			2))
+		{
+			BatchResult<Path> result = batch.processFiles(List.of(first, missing, second));
+			assertEquals(3, result.getResults().size());
+			assertEquals(2, result.getSuccesses().size());
+			assertEquals(1, result.getFailures().size());
+			assertEquals(missing, result.getFailures().get(0).getSource());
+			assertEquals("## Second {#second}\n",
+				result.getResults().get(2).getContext().originalContent);
+
+			ConcurrentLinkedQueue<DocumentResult<Path>> streamed = new ConcurrentLinkedQueue<>();
+			batch.processFiles(List.of(first, second), streamed::add);
+			assertEquals(2, streamed.size());
+		}
+	}
+
+	/**
+	 * Tests that a VirtualMachineError of a worker is rethrown on the calling thread
+	 */
+	@Test
+	void testVirtualMachineErrorIsPropagated() throws Exception
+	{
+		MarkdownProcessor failing = new MarkdownProcessor().addStep(context -> {
+			throw new InternalError("boom");
+		});
+		List<MarkdownContext> contexts = List.of(new MarkdownContext(), new MarkdownContext());
+		try (MarkdownBatchProcessor batch = MarkdownBatchProcessor.withForkJoinPool(failing, 2, 2))
+		{
+			InternalError error = assertThrows(InternalError.class,
+				() -> batch.processContexts(contexts));
+			assertEquals("boom", error.getMessage());
+		}
+	}
+
+	/**
+	 * Tests that an exception of the consumer is rethrown by processFiles and stops the batch
+	 */
+	@Test
+	void testConsumerFailureIsPropagated() throws Exception
+	{
+		Path directory = Files.createTempDirectory("batch");
+		List<Path> files = new ArrayList<>();
+		for (int i = 0; i < 20; i++)
+		{
+			files.add(Files.writeString(directory.resolve(i + ".md"), "# Doc " + i + "\n"));
+		}
+		AtomicInteger calls = new AtomicInteger();
+		try (MarkdownBatchProcessor batch = MarkdownBatchProcessor.withForkJoinPool(processor, 1,
+			1))
+		{
+			IllegalStateException error = assertThrows(IllegalStateException.class,
+				() -> batch.processFiles(files, result -> {
+					calls.incrementAndGet();
+					throw new IllegalStateException("sink failed");
+				}));
+			assertEquals("sink failed", error.getMessage());
+			assertEquals(1, calls.get());
+		}
+	}
+}
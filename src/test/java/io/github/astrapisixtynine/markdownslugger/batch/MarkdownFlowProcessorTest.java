@@ -0,0 +1,272 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessor;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugTestFixtures;
+
+/**
+ * Tests for {@link MarkdownFlowProcessor}
+ */
+class MarkdownFlowProcessorTest
+{
+	private final MarkdownProcessor processor = MarkdownProcessor.defaultPipeline(
+		SlugTestFixtures.defaultStrategy());
+
+	/**
+	 * Test that the documents of a publisher are published in input order
+	 */
+	@Test
+	void testOrdered() throws Exception
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>())
+		{
+			MarkdownFlowProcessor flow = new MarkdownFlowProcessor(processor, executor, 8, true);
+			CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+			publisher.subscribe(flow);
+			flow.subscribe(subscriber);
+			for (int i = 0; i < 200; i++)
+			{
+				publisher.submit("# Heading " + i + "\n");
+			}
+			publisher.close();
+			assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+			assertNull(subscriber.failure);
+			assertEquals(200, subscriber.results.size());
+			for (int i = 0; i < 200; i++)
+			{
+				assertEquals(List.of("heading-" + i), subscriber.results.get(i).slugs);
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Test that all documents are published when ordering is disabled
+	 */
+	@Test
+	void testUnordered() throws Exception
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>())
+		{
+			MarkdownFlowProcessor flow = new MarkdownFlowProcessor(processor, executor, 3, false);
+			CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+			publisher.subscribe(flow);
+			flow.subscribe(subscriber);
+			Set<String> expected = new HashSet<>();
+			for (int i = 0; i < 100; i++)
+			{
+				publisher.submit("# Heading " + i + "\n");
+				expected.add("heading-" + i);
+			}
+			publisher.close();
+			assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+			Set<String> slugs = new HashSet<>();
+			subscriber.results.forEach(context -> slugs.addAll(context.slugs));
+			assertEquals(expected, slugs);
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Test that a slow subscriber bounds the demand requested from the publisher
+	 */
+	@Test
+	void testBackpressure()
+	{
+		AtomicLong upstreamRequested = new AtomicLong();
+		Flow.Publisher<String> endless = subscriber -> subscriber
+			.onSubscribe(new Flow.Subscription()
+			{
+				private long next;
+
+				@Override
+				public void request(long n)
+				{
+					upstreamRequested.addAndGet(n);
+					for (long i = 0; i < n; i++)
+					{
+						subscriber.onNext("# Heading " + next++ + "\n");
+					}
+				}
+
+				@Override
+				public void cancel()
+				{
+				}
+			});
+		MarkdownFlowProcessor flow = new MarkdownFlowProcessor(processor, Runnable::run, 4, true);
+		CollectingSubscriber subscriber = new CollectingSubscriber(2);
+		flow.subscribe(subscriber);
+		endless.subscribe(flow);
+
+		assertEquals(2, subscriber.results.size());
+		assertEquals(6, upstreamRequested.get());
+
+		subscriber.subscription.request(3);
+		assertEquals(5, subscriber.results.size());
+		assertEquals(9, upstreamRequested.get());
+		assertEquals(List.of("heading-4"), subscriber.results.get(4).slugs);
+	}
+
+	/**
+	 * Test that a failing document terminates the stream with its failure
+	 */
+	@Test
+	void testFailure() throws Exception
+	{
+		MarkdownProcessor failing = new MarkdownProcessor().addStep(context -> {
+			if (context.originalContent.contains("fail"))
+			{
+				throw new IllegalStateException("broken document");
+			}
+		});
+		try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>())
+		{
+			MarkdownFlowProcessor flow = new MarkdownFlowProcessor(failing, Runnable::run, 2,
+				true);
+			CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+			publisher.subscribe(flow);
+			flow.subscribe(subscriber);
+			publisher.submit("# Fine\n");
+			publisher.submit("# fail\n");
+			assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+			assertInstanceOf(IllegalStateException.class, subscriber.failure);
+		}
+	}
+
+	/**
+	 * Test that a VirtualMachineError of a worker terminates the stream before it is rethrown
+	 */
+	@Test
+	void testVirtualMachineError() throws Exception
+	{
+		MarkdownProcessor failing = new MarkdownProcessor().addStep(context -> {
+			throw new InternalError("boom");
+		});
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>())
+		{
+			MarkdownFlowProcessor flow = new MarkdownFlowProcessor(failing, executor, 2, false);
+			CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+			publisher.subscribe(flow);
+			flow.subscribe(subscriber);
+			publisher.submit("# Doc\n");
+			assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+			assertInstanceOf(InternalError.class, subscriber.failure);
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Test that a second subscriber is rejected
+	 */
+	@Test
+	void testSingleSubscriber()
+	{
+		MarkdownFlowProcessor flow = new MarkdownFlowProcessor(processor, Runnable::run, 1, false);
+		flow.subscribe(new CollectingSubscriber(1));
+		CollectingSubscriber second = new CollectingSubscriber(1);
+		flow.subscribe(second);
+		assertInstanceOf(IllegalStateException.class, second.failure);
+		assertThrows(IllegalArgumentException.class,
+			() -> new MarkdownFlowProcessor(processor, Runnable::run, 0, false));
+	}
+
+	/**
+	 * Collects the published contexts, requesting the given demand on subscription
+	 */
+	private static final class CollectingSubscriber implements Flow.Subscriber<MarkdownContext>
+	{
+		private final List<MarkdownContext> results = new ArrayList<>();
+
+		private final CountDownLatch done = new CountDownLatch(1);
+
+		private final long initialDemand;
+
+		private Flow.Subscription subscription;
+
+		private volatile Throwable failure;
+
+		private CollectingSubscriber(long initialDemand)
+		{
+			this.initialDemand = initialDemand;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription)
+		{
+			this.subscription = subscription;
+			subscription.request(initialDemand);
+		}
+
+		@Override
+		public void onNext(MarkdownContext item)
+		{
+			results.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable)
+		{
+			failure = throwable;
+			done.countDown();
+		}
+
+		@Override
+		public void onComplete()
+		{
+			done.countDown();
+		}
+	}
+}
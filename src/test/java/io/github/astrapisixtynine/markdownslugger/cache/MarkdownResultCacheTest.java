@@ -0,0 +1,148 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapisixtynine.markdownslugger.core.FrozenMarkdownPipeline;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessor;
+import io.github.astrapisixtynine.markdownslugger.slug.DefaultSlugStrategy;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugTestFixtures;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugifyConfig;
+
+/**
+ * Unit tests for the MarkdownResultCache and the CachedPipelineStep Validates that cached results
+ * equal processed results, that fingerprints separate pipelines, that corrupt entries are misses
+ * and that the cache stays within its maximum size
+ */
+class MarkdownResultCacheTest
+{
+	private final SlugifyConfig config = SlugTestFixtures.defaultConfig();
+
+	private final FrozenMarkdownPipeline pipeline = MarkdownProcessor
+		.defaultPipeline(new DefaultSlugStrategy(config)).freeze();
+
+	private final String fingerprint = PipelineFingerprint.of(config, pipeline);
+
+	/**
+	 * Tests that the second processing of the same content is answered from the cache
+	 */
+	@Test
+	void testCachedResultEqualsProcessedResult() throws Exception
+	{
+		MarkdownResultCache cache = new MarkdownResultCache(Files.createTempDirectory("cache"),
+			1 << 20);
+		MarkdownProcessor processor = new MarkdownProcessor()
+			.addStep(new CachedPipelineStep(pipeline, fingerprint, cache));
+
+		MarkdownContext first = process(processor, "# Title\n## Über uns\ntext\n");
+		MarkdownContext second = process(processor, "# Title\n## Über uns\ntext\n");
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(first.headings, second.headings);
+		assertEquals(first.headingLevels, second.headingLevels);
+		assertEquals(List.of("title", "uber-uns"), second.slugs);
+		assertEquals(first.toc, second.toc);
+		assertEquals("# Title {#title}\n## Über uns {#uber-uns}\ntext\n", second.originalContent);
+
+		MarkdownContext other = new MarkdownContext();
+		other.originalContent = "# Title\n## Über uns\ntext\n";
+		assertFalse(cache.restore(PipelineFingerprint.of("other pipeline"), other));
+		assertEquals("# Title\n## Über uns\ntext\n", other.originalContent);
+	}
+
+	/**
+	 * Tests that incomplete entries are treated as misses and deleted
+	 */
+	@Test
+	void testCorruptEntryIsMiss() throws Exception
+	{
+		Path directory = Files.createTempDirectory("cache");
+		MarkdownResultCache cache = new MarkdownResultCache(directory, 1 << 20);
+		MarkdownContext context = process(pipeline, "# Title\n");
+		cache.store(fingerprint, "# Title\n", context);
+		Path entry;
+		try (Stream<Path> files = Files.walk(directory))
+		{
+			entry = files.filter(file -> file.toString().endsWith(".entry")).findFirst()
+				.orElseThrow();
+		}
+		byte[] bytes = Files.readAllBytes(entry);
+		Files.write(entry, Arrays.copyOf(bytes, bytes.length - 3));
+
+		MarkdownContext lookup = new MarkdownContext();
+		lookup.originalContent = "# Title\n";
+		assertFalse(cache.restore(fingerprint, lookup));
+		assertFalse(Files.exists(entry));
+		assertEquals("# Title\n", lookup.originalContent);
+	}
+
+	/**
+	 * Tests that concurrent workers share entries and the cache stays within its maximum size
+	 */
+	@Test
+	void testConcurrentAccessAndEviction() throws Exception
+	{
+		Path directory = Files.createTempDirectory("cache");
+		MarkdownResultCache cache = new MarkdownResultCache(directory, 8 * 1024);
+		MarkdownProcessor processor = new MarkdownProcessor()
+			.addStep(new CachedPipelineStep(pipeline, fingerprint, cache));
+		IntStream.range(0, 400).parallel().forEach(i -> {
+			String content = "# Heading " + (i % 200) + "\n" + "text ".repeat(20) + "\n";
+			MarkdownContext context = process(processor, content);
+			assertEquals(List.of("heading-" + (i % 200)), context.slugs);
+		});
+		assertTrue(cache.getEvictionCount() > 0);
+		// concurrent writers may add a few entries while an eviction runs
+		long size = new MarkdownResultCache(directory, 8 * 1024).getSize();
+		assertTrue(size <= 8 * 1024 + 2048, "size " + size);
+	}
+
+	private static MarkdownContext process(MarkdownProcessor processor, String content)
+	{
+		MarkdownContext context = new MarkdownContext();
+		context.originalContent = content;
+		processor.process(context);
+		return context;
+	}
+
+	private static MarkdownContext process(FrozenMarkdownPipeline pipeline, String content)
+	{
+		MarkdownContext context = new MarkdownContext();
+		context.originalContent = content;
+		pipeline.process(context);
+		return context;
+	}
+}
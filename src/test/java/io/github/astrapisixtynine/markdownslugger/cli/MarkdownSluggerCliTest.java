@@ -0,0 +1,175 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.cli;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapisixtynine.markdownslugger.slug.DefaultSlugStrategy;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugStrategy;
+
+/**
+ * Tests for {@link MarkdownSluggerCli}
+ */
+class MarkdownSluggerCliTest
+{
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+	private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+	private int run(String... args)
+	{
+		return MarkdownSluggerCli.run(args, new PrintStream(out, true, StandardCharsets.UTF_8),
+			new PrintStream(err, true, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Test that a file is anchored in place and a second run leaves it unchanged
+	 */
+	@Test
+	void testInPlaceIsIdempotent() throws IOException
+	{
+		Path file = Files.createTempDirectory("cli").resolve("doc.md");
+		Files.writeString(file, "# Title\n\n## Part\n\n## Part\n");
+
+		assertEquals(MarkdownSluggerCli.EXIT_OK, run(file.toString()));
+		String anchored = Files.readString(file);
+		assertEquals("# Title {#title}\n\n## Part {#part}\n\n## Part {#part}\n", anchored);
+
+		out.reset();
+		assertEquals(MarkdownSluggerCli.EXIT_OK, run(file.toString()));
+		assertEquals(anchored, Files.readString(file));
+		assertEquals("", out.toString(StandardCharsets.UTF_8));
+		assertEquals(MarkdownSluggerCli.EXIT_OK, run("--check", file.toString()));
+	}
+
+	/**
+	 * Test that the Markdown files of a directory are written to the output directory
+	 */
+	@Test
+	void testOutputDirectory() throws IOException
+	{
+		Path input = Files.createTempDirectory("cli");
+		Path output = Files.createTempDirectory("cli").resolve("out");
+		Files.createDirectories(input.resolve("sub"));
+		Files.writeString(input.resolve("a.md"), "# A\n");
+		Files.writeString(input.resolve("sub/b.md"), "# B\n");
+		Files.writeString(input.resolve("notes.txt"), "# C\n");
+
+		assertEquals(MarkdownSluggerCli.EXIT_OK,
+			run("-o", output.toString(), "-j", "2", input.toString()));
+		assertEquals("# A {#a}\n", Files.readString(output.resolve("a.md")));
+		assertEquals("# B {#b}\n", Files.readString(output.resolve("sub/b.md")));
+		assertFalse(Files.exists(output.resolve("notes.txt")));
+		assertEquals("# A\n", Files.readString(input.resolve("a.md")));
+	}
+
+	/**
+	 * Test that the check mode reports outdated files without writing them
+	 */
+	@Test
+	void testCheck() throws IOException
+	{
+		Path file = Files.createTempDirectory("cli").resolve("doc.md");
+		Files.writeString(file, "# Title\n");
+
+		assertEquals(MarkdownSluggerCli.EXIT_FAILED, run("--check", file.toString()));
+		assertEquals("# Title\n", Files.readString(file));
+		assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("outdated: "));
+	}
+
+	/**
+	 * Test that invalid arguments and missing inputs are reported with their exit codes
+	 */
+	@Test
+	void testErrors()
+	{
+		assertEquals(MarkdownSluggerCli.EXIT_USAGE, run());
+		assertEquals(MarkdownSluggerCli.EXIT_USAGE, run("--unknown", "doc.md"));
+		assertEquals(MarkdownSluggerCli.EXIT_USAGE, run("-j", "zero", "doc.md"));
+		assertEquals(MarkdownSluggerCli.EXIT_OK, run("--help"));
+		assertEquals(MarkdownSluggerCli.EXIT_FAILED, run("does-not-exist.md"));
+	}
+
+	/**
+	 * Test that the slug options are applied
+	 */
+	@Test
+	void testSlugOptions() throws IOException
+	{
+		Path file = Files.createTempDirectory("cli").resolve("doc.md");
+		Files.writeString(file, "# Fish & Chips\n");
+
+		assertEquals(MarkdownSluggerCli.EXIT_OK,
+			run("--separator", "_", "--replace", "&=and", file.toString()));
+		assertEquals("# Fish & Chips {#fish_and_chips}\n", Files.readString(file));
+	}
+
+	/**
+	 * Test that only trailing anchor IDs of headings that equal the generated slug are stripped
+	 */
+	@Test
+	void testStripAnchors()
+	{
+		SlugStrategy slugStrategy = new DefaultSlugStrategy(
+			CliOptions.parse(new String[] { "doc.md" }).toSlugifyConfig());
+		Map<Integer, String> customLines = new HashMap<>();
+		assertEquals("# Title\ntext {#keep}\n## Part  \n## Part\n",
+			MarkdownSluggerCli.stripAnchors(
+				"# Title {#title}\ntext {#keep}\n## Part   {#part}  \n## Part {#intro}\n",
+				slugStrategy, customLines));
+		assertEquals(Map.of(3, "## Part {#intro}"), customLines);
+		assertEquals("plain",
+			MarkdownSluggerCli.stripAnchors("plain", slugStrategy, customLines));
+	}
+
+	/**
+	 * Test that headings with author-written anchor IDs are left untouched
+	 */
+	@Test
+	void testCustomAnchorsAreKept() throws IOException
+	{
+		Path file = Files.createTempDirectory("cli").resolve("doc.md");
+		Files.writeString(file, "# Title\n\n  ## Part {#custom-id}\n\n## Part\n");
+
+		assertEquals(MarkdownSluggerCli.EXIT_OK, run(file.toString()));
+		String anchored = Files.readString(file);
+		assertEquals("# Title {#title}\n\n  ## Part {#custom-id}\n\n## Part {#part}\n", anchored);
+
+		out.reset();
+		assertEquals(MarkdownSluggerCli.EXIT_OK, run("--check", file.toString()));
+		assertEquals(anchored, Files.readString(file));
+	}
+}
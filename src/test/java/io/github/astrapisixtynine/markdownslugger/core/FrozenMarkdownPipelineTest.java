@@ -0,0 +1,122 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapisixtynine.markdownslugger.slug.SlugTestFixtures;
+
+/**
+ * Unit tests for the FrozenMarkdownPipeline and the MarkdownContextPool Validates that a frozen
+ * pipeline is isolated from its processor and that pooled contexts are reused concurrently
+ */
+class FrozenMarkdownPipelineTest
+{
+	private final MarkdownProcessor processor = MarkdownProcessor.defaultPipeline(
+		SlugTestFixtures.defaultStrategy());
+
+	/**
+	 * Tests that later changes to the processor do not affect the frozen pipeline
+	 */
+	@Test
+	void testFreezeIsASnapshot()
+	{
+		FrozenMarkdownPipeline frozen = processor.freeze();
+		processor.addStep(context -> context.toc = "changed");
+		MarkdownContext context = new MarkdownContext();
+		context.originalContent = "# Title\n";
+		frozen.process(context);
+		assertEquals("- [Title](#title)\n", context.toc);
+		assertEquals(4, frozen.getSteps().size());
+		assertThrows(UnsupportedOperationException.class, () -> frozen.getSteps().clear());
+	}
+
+	/**
+	 * Tests that a reset context produces the same results as a new context
+	 */
+	@Test
+	void testResetContext()
+	{
+		MarkdownContext context = new MarkdownContext();
+		context.originalContent = "# One\n## Two\n";
+		processor.process(context);
+		context.reset();
+		assertNull(context.originalContent);
+		assertEquals("", context.toc);
+		assertTrue(context.headings.isEmpty());
+		assertTrue(context.slugs.isEmpty());
+		assertEquals(0, context.headingTable.size());
+
+		context.headings.add("legacy");
+		context.reset();
+		assertTrue(context.headings.isEmpty());
+
+		context.originalContent = "# Three\n";
+		processor.process(context);
+		assertEquals(List.of("three"), context.slugs);
+		assertEquals("# Three {#three}\n", context.originalContent);
+	}
+
+	/**
+	 * Tests that a frozen pipeline processes documents concurrently with pooled contexts
+	 */
+	@Test
+	void testConcurrentProcessingWithPool()
+	{
+		FrozenMarkdownPipeline frozen = processor.freeze();
+		MarkdownContextPool pool = new MarkdownContextPool(4);
+		List<String> results = IntStream.range(0, 2000).parallel()
+			.mapToObj(i -> frozen.process("# Heading " + i + "\n## Part\n", pool,
+				context -> context.toc))
+			.toList();
+		for (int i = 0; i < results.size(); i++)
+		{
+			assertEquals("- [Heading " + i + "](#heading-" + i + ")\n  - [Part](#part)\n",
+				results.get(i));
+		}
+		assertTrue(pool.getIdleCount() >= 1 && pool.getIdleCount() <= 4);
+	}
+
+	/**
+	 * Tests that heading lists returned by the reader stay valid after the context was reused
+	 */
+	@Test
+	void testReturnedListsOutliveThePooledContext()
+	{
+		FrozenMarkdownPipeline frozen = processor.freeze();
+		MarkdownContextPool pool = new MarkdownContextPool(1);
+		List<String> slugs = frozen.process("# One\n## Two\n", pool, context -> context.slugs);
+		List<Integer> levels = frozen.process("# One\n## Two\n", pool,
+			context -> context.headingLevels);
+		frozen.process("# Three\n", pool, context -> context.headings);
+		assertEquals(List.of("one", "two"), slugs);
+		assertEquals(List.of(1, 2), levels);
+	}
+}
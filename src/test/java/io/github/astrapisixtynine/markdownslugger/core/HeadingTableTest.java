@@ -0,0 +1,124 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapisixtynine.markdownslugger.pipeline.AnchorIdInjector;
+import io.github.astrapisixtynine.markdownslugger.pipeline.HeadingExtractor;
+import io.github.astrapisixtynine.markdownslugger.pipeline.TocGenerator;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugMapper;
+
+/**
+ * Unit tests for the HeadingTable Validates growth of the primitive columns, lazy
+ * materialization and the read-only list views
+ */
+class HeadingTableTest
+{
+	/**
+	 * Tests that headings and slugs survive the growth of the backing arrays
+	 */
+	@Test
+	void testGrowthAndMaterialization()
+	{
+		StringBuilder source = new StringBuilder();
+		HeadingTable table = new HeadingTable();
+		for (int i = 0; i < 1000; i++)
+		{
+			source.append("# Heading ").append(i).append('\n');
+		}
+		table.reset(source);
+		int offset = 0;
+		for (int i = 0; i < 1000; i++)
+		{
+			String line = "# Heading " + i;
+			table.add(1, offset, offset + line.length(), offset + 2, offset + line.length());
+			table.addSlug("heading-" + i);
+			offset += line.length() + 1;
+		}
+
+		assertEquals(1000, table.size());
+		assertEquals(1000, table.slugCount());
+		assertEquals("Heading 999", table.heading(999));
+		assertEquals("heading-500", table.slug(500));
+		assertEquals("[Heading 7](#heading-7)", table
+			.appendSlug(7, table.appendHeading(7, new StringBuilder("[")).append("](#"))
+			.append(')').toString());
+		assertEquals(1, table.level(3));
+		assertEquals("# Heading 3".length(), table.lineEnd(3) - table.lineStart(3));
+	}
+
+	/**
+	 * Tests the list views and the reset of the table
+	 */
+	@Test
+	void testViewsAndReset()
+	{
+		HeadingTable table = new HeadingTable();
+		table.reset("## Two\n### Three");
+		table.add(2, 0, 6, 3, 6);
+		table.add(3, 7, 16, 11, 16);
+		table.addSlug("two");
+
+		assertEquals(List.of("Two", "Three"), table.headings());
+		assertEquals(List.of(2, 3), table.levels());
+		assertEquals(List.of("two"), table.slugs());
+		assertTrue(table.backs(table.headings()));
+		assertFalse(table.backs(List.of("Two", "Three")));
+		assertThrows(UnsupportedOperationException.class, () -> table.headings().add("Four"));
+		assertThrows(IndexOutOfBoundsException.class, () -> table.slug(1));
+
+		table.reset("");
+		assertTrue(table.headings().isEmpty());
+		assertTrue(table.slugs().isEmpty());
+	}
+
+	/**
+	 * Tests the migration path for steps that edited the heading lists in place: a mutable copy
+	 * assigned to the context is used by the following steps instead of the table
+	 */
+	@Test
+	void testAssignedCopiesReplaceTheViews()
+	{
+		MarkdownContext context = new MarkdownContext();
+		context.originalContent = "# Title\n## Usage\n";
+		new MarkdownProcessor().addStep(new HeadingExtractor())
+			.addStep(new SlugMapper(String::toLowerCase))
+			.addStep(step -> assertThrows(UnsupportedOperationException.class,
+				() -> step.headings.set(0, "Changed")))
+			.addStep(new TocGenerator()).addStep(step -> {
+				List<String> slugs = new ArrayList<>(step.slugs);
+				slugs.set(1, "custom");
+				step.slugs = slugs;
+			}).addStep(new AnchorIdInjector()).process(context);
+		assertEquals("# Title {#title}\n## Usage {#custom}\n", context.originalContent);
+		assertEquals("- [Title](#title)\n  - [Usage](#usage)\n", context.toc);
+	}
+}
@@ -0,0 +1,104 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapisixtynine.markdownslugger.metrics.InMemoryPipelineMetrics;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugTestFixtures;
+
+/**
+ * Unit tests for demand driven processing Validates that steps nobody reads are pruned and that
+ * lazily computed artifacts run every step at most once
+ */
+class LazyMarkdownResultTest
+{
+	private static final String CONTENT = "# Title\ntext\n## Usage\n";
+
+	private final InMemoryPipelineMetrics metrics = new InMemoryPipelineMetrics();
+
+	private final MarkdownProcessor processor = MarkdownProcessor
+		.defaultPipeline(SlugTestFixtures.defaultStrategy())
+		.withMetricsListener(metrics);
+
+	/**
+	 * Tests that requesting only the slugs skips the TOC and anchor steps
+	 */
+	@Test
+	void testProcessPrunesUnrequestedSteps()
+	{
+		MarkdownContext context = new MarkdownContext();
+		context.originalContent = CONTENT;
+		processor.process(context, Set.of(PipelineArtifact.SLUGS));
+
+		assertEquals(List.of("title", "usage"), context.slugs);
+		assertEquals("", context.toc);
+		assertSame(CONTENT, context.originalContent);
+		assertEquals(List.of("0:HeadingExtractor", "1:SlugMapper"),
+			List.copyOf(metrics.getStepStatistics().keySet()));
+	}
+
+	/**
+	 * Tests that lazily computed artifacts match the eager pipeline and run each step once
+	 */
+	@Test
+	void testLazyResult()
+	{
+		LazyMarkdownResult result = processor.processLazily(CONTENT);
+		assertEquals(List.of("Title", "Usage"), result.getHeadings());
+		assertEquals(1, metrics.getStepStatistics().size());
+		assertEquals("- [Title](#title)\n  - [Usage](#usage)\n", result.getToc());
+		assertEquals("# Title {#title}\ntext\n## Usage {#usage}\n", result.getAnchoredContent());
+		assertEquals(List.of("title", "usage"), result.getSlugs());
+		assertEquals(List.of(1, 2), result.getHeadingLevels());
+		for (InMemoryPipelineMetrics.StepStatistics statistics : metrics.getStepStatistics()
+			.values())
+		{
+			assertEquals(1, statistics.getLatency().getCount(), statistics.getStepName());
+		}
+	}
+
+	/**
+	 * Tests that steps without declared outputs are never pruned and keep their inputs
+	 */
+	@Test
+	void testUndeclaredStepsAreKept()
+	{
+		List<String> seen = new ArrayList<>();
+		MarkdownProcessor custom = MarkdownProcessor.defaultPipeline(String::toLowerCase)
+			.addStep(context -> seen.add(context.originalContent));
+		MarkdownContext context = new MarkdownContext();
+		context.originalContent = "# A\n";
+		custom.process(context, Set.of(PipelineArtifact.HEADINGS));
+		assertEquals(List.of("# A {#a}\n"), seen);
+		assertEquals("- [A](#a)\n", context.toc);
+	}
+}
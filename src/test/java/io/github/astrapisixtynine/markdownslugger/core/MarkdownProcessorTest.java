@@ -236,4 +236,18 @@ class MarkdownProcessorTest
 			context.slugs);
 
 	}
+
+	/**
+	 * Tests that the hash prefix is kept for headings whose text also occurs in their prefix
+	 */
+	@Test
+	void testHeadingTextInMarkerPrefix()
+	{
+		MarkdownContext context = new MarkdownContext();
+		context.originalContent = "# #\n## ##\n";
+
+		MarkdownProcessor.defaultPipeline(heading -> "hash").process(context);
+
+		assertEquals("# # {#hash}\n## ## {#hash}\n", context.originalContent);
+	}
 }
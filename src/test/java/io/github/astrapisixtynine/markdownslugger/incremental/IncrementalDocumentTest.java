@@ -0,0 +1,143 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.incremental;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessor;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugStrategy;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugTestFixtures;
+
+/**
+ * Unit tests for the IncrementalDocument Validates that incremental edits yield the same results
+ * as running the default pipeline on the edited content
+ */
+class IncrementalDocumentTest
+{
+	private final SlugStrategy slugStrategy = SlugTestFixtures.defaultStrategy();
+
+	/**
+	 * Tests a sequence of random edits against the default pipeline
+	 */
+	@Test
+	void testRandomEditsMatchDefaultPipeline()
+	{
+		assertRandomEditsMatchDefaultPipeline(
+			new IncrementalDocument(slugStrategy, "# Start\nintro\n"), "# Start\nintro\n", 11);
+	}
+
+	/**
+	 * Tests a sequence of random edits against the default pipeline with blocks of a few lines,
+	 * so edits span, split and merge blocks
+	 */
+	@Test
+	void testRandomEditsAcrossBlocks()
+	{
+		String initial = "# Start\nintro\n## One\ntext\n\n### Two\nmore\n# Three\nend\n";
+		assertRandomEditsMatchDefaultPipeline(new IncrementalDocument(slugStrategy, initial, 3),
+			initial, 23);
+	}
+
+	/**
+	 * Tests that the cost of an edit does not grow with the size of the document
+	 */
+	@Test
+	void testEditsDoNotScaleWithDocument()
+	{
+		String content = "## Section\ntext of the section\n".repeat(100_000);
+		IncrementalDocument document = new IncrementalDocument(slugStrategy, content);
+		assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+			for (int i = 0; i < 20_000; i++)
+			{
+				// alternates between the start and the end of the content
+				document.applyEdit(i % 2 == 0 ? 12 : content.length() + 2 * i, 0, "x\n");
+			}
+		});
+		assertEquals(220_001, document.getLineCount());
+		assertEquals("## Section {#section}", document.getAnchoredLine(0));
+		assertEquals(100_000, document.getSlugs().size());
+	}
+
+	private void assertRandomEditsMatchDefaultPipeline(IncrementalDocument document,
+		String initial, long seed)
+	{
+		String[] fragments = { "# ", "## ", "Title", " ", "\n", "\n\n", "text", "#", "  ### Deep",
+				"\r\n" };
+		Random random = new Random(seed);
+		StringBuilder content = new StringBuilder(initial);
+		for (int i = 0; i < 2000; i++)
+		{
+			int offset = random.nextInt(content.length() + 1);
+			int removed = random.nextInt(Math.min(6, content.length() - offset) + 1);
+			String inserted = random.nextInt(3) == 0 ? ""
+				: fragments[random.nextInt(fragments.length)];
+			content.replace(offset, offset + removed, inserted);
+			document.applyEdit(offset, removed, inserted);
+
+			assertEquals(content.toString(), document.getContent());
+			MarkdownContext expected = new MarkdownContext();
+			expected.originalContent = content.toString();
+			MarkdownProcessor.defaultPipeline(slugStrategy).process(expected);
+			MarkdownContext actual = document.toContext();
+			assertEquals(expected.headings, actual.headings);
+			assertEquals(expected.headingLevels, actual.headingLevels);
+			assertEquals(expected.slugs, actual.slugs);
+			assertEquals(expected.toc, actual.toc);
+			assertEquals(expected.originalContent, actual.originalContent);
+			assertEquals(content.toString().split("\n", -1).length, document.getLineCount());
+		}
+	}
+
+	/**
+	 * Tests the reported change of an edit inside a paragraph and of an edit of a heading
+	 */
+	@Test
+	void testDocumentChange()
+	{
+		IncrementalDocument document = new IncrementalDocument(slugStrategy,
+			"# Title\nsome text\n## Section\n");
+		String toc = document.getToc();
+
+		DocumentChange change = document.applyEdit(13, 0, "more ");
+		assertEquals(1, change.getFirstLine());
+		assertEquals(1, change.getRemovedLines());
+		assertEquals(1, change.getInsertedLines());
+		assertFalse(change.isHeadingsChanged());
+		assertSame(toc, document.getToc());
+
+		change = document.applyEdit(2, 5, "Heading\nnew line");
+		assertTrue(change.isHeadingsChanged());
+		assertEquals(2, change.getInsertedLines());
+		assertEquals("# Heading {#heading}", document.getAnchoredLine(0));
+		assertEquals("- [Heading](#heading)\n  - [Section](#section)\n", document.getToc());
+		assertThrows(IndexOutOfBoundsException.class, () -> document.applyEdit(100, 0, "x"));
+	}
+}
@@ -0,0 +1,106 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.link;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapisixtynine.markdownslugger.slug.SlugTestFixtures;
+
+/**
+ * Tests for {@link LinkIndex}
+ */
+class LinkIndexTest
+{
+	private final LinkIndex index = new LinkIndex(SlugTestFixtures.defaultStrategy());
+
+	/**
+	 * Test that intra and cross document links are checked against the indexed anchors
+	 */
+	@Test
+	void testCheck() throws Exception
+	{
+		Path root = Files.createTempDirectory("links");
+		Files.createDirectories(root.resolve("guide"));
+		Path readme = Files.writeString(root.resolve("README.md"), "# Project\n"
+			+ "[intro](#project) [missing](#introduction)\n"
+			+ "[setup](guide/setup.md#install-the-tool) [renamed](guide/setup.md#installation)\n"
+			+ "[gone](guide/removed.md#x) [external](https://example.com#x) [image](logo.png#x)\n");
+		Path setup = Files.writeString(root.resolve("guide/setup.md"),
+			"# Install the Tool\n## Configure {#config}\n[back](../README.md#project)\n"
+				+ "[explicit](#config) [slug](#configure-config)\n");
+
+		assertTrue(index.index(List.of(readme, setup), 2).isEmpty());
+		assertEquals(2, index.size());
+		assertEquals(Set.of("install-the-tool", "config"), index.getAnchors(setup));
+
+		List<BrokenLink> broken = index.check();
+		assertEquals(4, broken.size());
+		assertEquals("#introduction", broken.get(0).getLink().getDestination());
+		assertEquals(BrokenLink.Reason.MISSING_ANCHOR, broken.get(0).getReason());
+		assertEquals(2, broken.get(0).getLine());
+		assertEquals("guide/setup.md#installation", broken.get(1).getLink().getDestination());
+		assertEquals(BrokenLink.Reason.MISSING_DOCUMENT, broken.get(2).getReason());
+		assertEquals(4, broken.get(2).getLine());
+		assertEquals(setup.toAbsolutePath().normalize(), broken.get(3).getSource());
+		assertEquals(4, broken.get(3).getLine());
+		assertTrue(
+			broken.get(3).toString().endsWith("setup.md:4: missing anchor: #configure-config"));
+	}
+
+	/**
+	 * Test that unchanged documents are not processed again and modified documents are
+	 */
+	@Test
+	void testReindex() throws Exception
+	{
+		Path file = Files.writeString(Files.createTempDirectory("links").resolve("doc.md"),
+			"# First\n");
+		index.index(List.of(file), 1);
+		assertEquals(Set.of("first"), index.getAnchors(file));
+
+		Files.writeString(file, "# Second\n");
+		FileTime indexed = Files.getLastModifiedTime(file);
+		Files.setLastModifiedTime(file, FileTime.fromMillis(indexed.toMillis() - 60_000));
+		index.index(List.of(file), 1);
+		assertEquals(Set.of("second"), index.getAnchors(file));
+
+		Files.writeString(file, "# Third\n");
+		Files.setLastModifiedTime(file, FileTime.fromMillis(indexed.toMillis() - 60_000));
+		index.index(List.of(file), 1);
+		assertEquals(Set.of("second"), index.getAnchors(file));
+
+		assertEquals(1, index.index(List.of(file.resolveSibling("missing.md")), 1).size());
+		index.remove(file);
+		assertFalse(index.contains(file));
+	}
+}
@@ -0,0 +1,97 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.link;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LinkScanner}
+ */
+class LinkScannerTest
+{
+	/**
+	 * Test that inline links, images and reference definitions with fragments are found
+	 */
+	@Test
+	void testScan()
+	{
+		List<FragmentLink> links = LinkScanner.scan("# Title\n"
+			+ "See [intro](#intro) and [setup](guide.md#setup \"Setup\").\n"
+			+ "![logo](img/logo.png) [site](https://example.com/page#top)\n"
+			+ "[spaced](<my guide.md#first-steps>) [query](api.md?x=1#get%20users)\n"
+			+ "  [ref]: ../other.md#ref-anchor\n" + "[no fragment](other.md) [empty](other.md#)\n");
+
+		assertEquals(5, links.size());
+		assertLink(links.get(0), 2, "", "intro");
+		assertTrue(links.get(0).isLocal());
+		assertLink(links.get(1), 2, "guide.md", "setup");
+		assertLink(links.get(2), 4, "my guide.md", "first-steps");
+		assertLink(links.get(3), 4, "api.md", "get users");
+		assertEquals("api.md?x=1#get%20users", links.get(3).getDestination());
+		assertLink(links.get(4), 5, "../other.md", "ref-anchor");
+	}
+
+	/**
+	 * Test that content without links yields no links
+	 */
+	@Test
+	void testNoLinks()
+	{
+		assertTrue(LinkScanner.scan("").isEmpty());
+		assertTrue(LinkScanner.scan("# Title\n\n[not a link] (#x)\n").isEmpty());
+	}
+
+	/**
+	 * Test that the scan time grows linearly with the number of lines, every search is bounded by
+	 * its line
+	 */
+	@Test
+	void testScanScalesLinearly()
+	{
+		StringBuilder document = new StringBuilder();
+		for (int i = 0; i < 200_000; i++)
+		{
+			document.append("a line of text without links number ").append(i).append('\n');
+		}
+		String content = document.append("[last](other.md#end)\n").toString();
+
+		List<FragmentLink> links = assertTimeoutPreemptively(Duration.ofSeconds(2),
+			() -> LinkScanner.scan(content));
+		assertEquals(1, links.size());
+		assertLink(links.get(0), 200_001, "other.md", "end");
+	}
+
+	private static void assertLink(FragmentLink link, int line, String path, String fragment)
+	{
+		assertEquals(line, link.getLine());
+		assertEquals(path, link.getPath());
+		assertEquals(fragment, link.getFragment());
+	}
+}
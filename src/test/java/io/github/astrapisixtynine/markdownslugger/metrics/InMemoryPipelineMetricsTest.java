@@ -0,0 +1,134 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessor;
+import io.github.astrapisixtynine.markdownslugger.pipeline.HeadingExtractor;
+import io.github.astrapisixtynine.markdownslugger.slug.CachingSlugStrategy;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugTestFixtures;
+
+/**
+ * Unit tests for the InMemoryPipelineMetrics and the LatencyHistogram Validates that every step of
+ * a processor is measured and that percentiles are reported within the bucket precision
+ */
+class InMemoryPipelineMetricsTest
+{
+	/**
+	 * Tests that the measurements of every step are aggregated under the step name
+	 */
+	@Test
+	void testStepsAreMeasured()
+	{
+		CachingSlugStrategy cache = new CachingSlugStrategy(SlugTestFixtures.defaultStrategy(), 100);
+		InMemoryPipelineMetrics metrics = new InMemoryPipelineMetrics(true);
+		metrics.registerSlugCache("default", cache);
+		MarkdownProcessor processor = MarkdownProcessor.defaultPipeline(cache)
+			.withMetricsListener(metrics);
+		for (int i = 0; i < 3; i++)
+		{
+			MarkdownContext context = new MarkdownContext();
+			context.originalContent = "# Title\n## Usage\ntext\n";
+			processor.process(context);
+			assertEquals(List.of("title", "usage"), context.slugs);
+		}
+
+		Map<String, InMemoryPipelineMetrics.StepStatistics> statistics = metrics
+			.getStepStatistics();
+		assertEquals(
+			List.of("0:HeadingExtractor", "1:SlugMapper", "2:TocGenerator", "3:AnchorIdInjector"),
+			List.copyOf(statistics.keySet()));
+		InMemoryPipelineMetrics.StepStatistics extractor = statistics.get("0:HeadingExtractor");
+		assertEquals(0, extractor.getStepIndex());
+		assertEquals("HeadingExtractor", extractor.getStepName());
+		assertEquals(3, extractor.getLatency().getCount());
+		assertEquals(3 * "# Title\n## Usage\ntext\n".length(), extractor.getCharacters());
+		assertEquals(6, extractor.getHeadings());
+		assertEquals(0, statistics.get("1:SlugMapper").getHeadings());
+		assertEquals(4.0 / 6, metrics.getSlugCacheHitRates().get("default"), 0.0001);
+		assertTrue(metrics.report().contains("step 1:SlugMapper count=3"));
+	}
+
+	/**
+	 * Tests that lambda steps and several steps of the same class are aggregated separately
+	 */
+	@Test
+	void testStepsAreKeyedByPosition()
+	{
+		InMemoryPipelineMetrics metrics = new InMemoryPipelineMetrics();
+		MarkdownProcessor processor = new MarkdownProcessor()
+			.addStep(context -> context.originalContent += "\n")
+			.addStep(context -> context.originalContent = context.originalContent.trim())
+			.addStep(new HeadingExtractor()).addStep(new HeadingExtractor())
+			.withMetricsListener(metrics);
+		MarkdownContext context = new MarkdownContext();
+		context.originalContent = "# Title\n";
+		processor.process(context);
+
+		Map<String, InMemoryPipelineMetrics.StepStatistics> statistics = metrics
+			.getStepStatistics();
+		assertEquals(List.of("0:step", "1:step", "2:HeadingExtractor", "3:HeadingExtractor"),
+			List.copyOf(statistics.keySet()));
+		statistics.values()
+			.forEach(step -> assertEquals(1, step.getLatency().getCount(), step.getStepName()));
+		assertEquals(1, statistics.get("2:HeadingExtractor").getHeadings());
+		assertEquals(0, statistics.get("3:HeadingExtractor").getHeadings());
+	}
+
+	/**
+	 * Tests that percentiles are reported within the bucket precision
+	 */
+	@Test
+	void testHistogramPercentiles()
+	{
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getPercentile(99));
+		for (int value = 1; value <= 1000; value++)
+		{
+			histogram.record(value);
+		}
+		assertEquals(1000, histogram.getCount());
+		assertEquals(1000, histogram.getMax());
+		assertEquals(500.5, histogram.getMean(), 0.0001);
+		long median = histogram.getPercentile(50);
+		assertTrue(median >= 500 && median <= 500 * 1.125, "median " + median);
+		long p99 = histogram.getPercentile(99);
+		assertTrue(p99 >= 990 && p99 <= 1000, "p99 " + p99);
+		assertEquals(1, histogram.getPercentile(0));
+		for (long value : new long[] { 0, 7, 8, 9, 1023, 1024, Long.MAX_VALUE })
+		{
+			int bucket = LatencyHistogram.bucket(value);
+			assertTrue(LatencyHistogram.upperBound(bucket) >= value);
+			assertTrue(bucket == 0 || LatencyHistogram.upperBound(bucket - 1) < value);
+		}
+	}
+}
@@ -0,0 +1,164 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessor;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugStrategy;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugTestFixtures;
+
+/**
+ * Unit tests for the FusedHeadingProcessor Validates that the single-pass step produces the same
+ * context state as the default four-step pipeline and as the original regex based implementation
+ */
+class FusedHeadingProcessorTest
+{
+	private static final List<String> INPUTS = HeadingInputs.EDGE_CASES;
+
+	private final SlugStrategy slugStrategy = SlugTestFixtures.defaultStrategy();
+
+	/**
+	 * Tests that the fused pipeline matches the default pipeline on a variety of inputs including
+	 * edge cases such as trailing blank lines, indented headings and invalid heading markers
+	 */
+	@Test
+	void testFusedPipelineMatchesDefaultPipeline()
+	{
+		for (String input : INPUTS)
+		{
+			MarkdownContext expected = new MarkdownContext();
+			expected.originalContent = input;
+			MarkdownProcessor.defaultPipeline(slugStrategy).process(expected);
+
+			MarkdownContext actual = new MarkdownContext();
+			actual.originalContent = input;
+			MarkdownProcessor.fusedPipeline(slugStrategy).process(actual);
+
+			assertEquals(expected.headings, actual.headings);
+			assertEquals(expected.headingLevels, actual.headingLevels);
+			assertEquals(expected.slugs, actual.slugs);
+			assertEquals(expected.toc, actual.toc);
+			assertEquals(expected.originalContent, actual.originalContent);
+		}
+	}
+
+	/**
+	 * Tests that the table based default pipeline still matches the original regex based
+	 * implementation of the pipeline steps
+	 */
+	@Test
+	void testDefaultPipelineMatchesOriginalImplementation()
+	{
+		for (String input : INPUTS)
+		{
+			MarkdownContext actual = new MarkdownContext();
+			actual.originalContent = input;
+			MarkdownProcessor.defaultPipeline(slugStrategy).process(actual);
+
+			MarkdownContext expected = new MarkdownContext();
+			expected.originalContent = input;
+			processWithOriginalImplementation(expected);
+
+			assertEquals(expected.headings, actual.headings);
+			assertEquals(expected.headingLevels, actual.headingLevels);
+			assertEquals(expected.slugs, actual.slugs);
+			assertEquals(expected.toc, actual.toc);
+			assertEquals(expected.originalContent, actual.originalContent);
+		}
+	}
+
+	/**
+	 * Tests the heading line recognizer on single lines
+	 */
+	@Test
+	void testHeadingLineParser()
+	{
+		assertEquals(1, HeadingLineParser.lineLevel("# A", 0, 3));
+		assertEquals(6, HeadingLineParser.lineLevel("  ###### A  ", 0, 12));
+		assertEquals(0, HeadingLineParser.lineLevel("####### A", 0, 9));
+		assertEquals(0, HeadingLineParser.lineLevel("#A", 0, 2));
+		assertEquals(0, HeadingLineParser.lineLevel("# ", 0, 2));
+		assertEquals(0, HeadingLineParser.lineLevel("# a\rb", 0, 5));
+		assertEquals(0, HeadingLineParser.lineLevel("text", 0, 4));
+	}
+
+	/**
+	 * The original regex based implementation of the default pipeline used as a reference
+	 */
+	private void processWithOriginalImplementation(MarkdownContext context)
+	{
+		for (String line : context.originalContent.split("\n"))
+		{
+			String trimmed = line.trim();
+			if (trimmed.matches("^#{1,6} .+"))
+			{
+				int level = 0;
+				while (level < trimmed.length() && trimmed.charAt(level) == '#')
+				{
+					level++;
+				}
+				context.headingLevels.add(level);
+				context.headings.add(trimmed.replaceFirst("^#+ ", ""));
+			}
+		}
+		for (String heading : context.headings)
+		{
+			context.slugs.add(slugStrategy.toSlug(heading));
+		}
+		StringBuilder tocBuilder = new StringBuilder();
+		for (int i = 0; i < context.headings.size(); i++)
+		{
+			String indent = "  ".repeat(Math.max(0, context.headingLevels.get(i) - 1));
+			tocBuilder.append(indent).append("- [").append(context.headings.get(i)).append("](#")
+				.append(context.slugs.get(i)).append(")\n");
+		}
+		context.toc = tocBuilder.toString();
+		StringBuilder modified = new StringBuilder();
+		int headingIndex = 0;
+		for (String line : context.originalContent.split("\n"))
+		{
+			if (headingIndex < context.headings.size() && line.trim().matches("^#{1,6} .+"))
+			{
+				String headingText = context.headings.get(headingIndex);
+				String hashPrefix = line.substring(0, line.indexOf(headingText)).trim();
+				modified.append(hashPrefix).append(" ").append(headingText).append(" {#")
+					.append(context.slugs.get(headingIndex)).append("}");
+				headingIndex++;
+			}
+			else
+			{
+				modified.append(line);
+			}
+			modified.append("\n");
+		}
+		context.originalContent = modified.toString();
+	}
+}
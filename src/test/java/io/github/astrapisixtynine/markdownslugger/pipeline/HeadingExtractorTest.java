@@ -0,0 +1,118 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessor;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugMapper;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugStrategy;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugTestFixtures;
+
+/**
+ * Tests for {@link HeadingExtractor}
+ */
+class HeadingExtractorTest
+{
+	private final SlugStrategy slugStrategy = SlugTestFixtures.defaultStrategy();
+
+	/**
+	 * Test that the chunked parallel extraction yields the same headings, slugs, TOC and anchored
+	 * content as the sequential extraction
+	 */
+	@Test
+	void testChunkedExtractionMatchesSequential()
+	{
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try
+		{
+			Random random = new Random(3);
+			String[] lines = { "# Title", "## Section", "   ### Indented", "text", "",
+					"#no heading", "####### too deep", "```", "# In Fence", "## Trailing #  ",
+					"\t# Tab\r" };
+			for (int chunkSize : new int[] { 1, 7, 64, 1000 })
+			{
+				for (int i = 0; i < 20; i++)
+				{
+					StringBuilder document = new StringBuilder();
+					int lineCount = random.nextInt(400);
+					for (int j = 0; j < lineCount; j++)
+					{
+						document.append(lines[random.nextInt(lines.length)]).append(' ').append(j)
+							.append('\n');
+					}
+					if (random.nextBoolean())
+					{
+						document.append("# Last line without line feed");
+					}
+					String content = document.toString();
+					MarkdownContext sequential = process(new HeadingExtractor(), content);
+					MarkdownContext chunked = process(new HeadingExtractor(pool, chunkSize),
+						content);
+					assertEquals(sequential.headings, chunked.headings);
+					assertEquals(sequential.headingLevels, chunked.headingLevels);
+					assertEquals(sequential.slugs, chunked.slugs);
+					assertEquals(sequential.toc, chunked.toc);
+					assertEquals(sequential.originalContent, chunked.originalContent);
+					for (int h = 0; h < sequential.headingTable.size(); h++)
+					{
+						assertEquals(sequential.headingTable.lineStart(h),
+							chunked.headingTable.lineStart(h));
+						assertEquals(sequential.headingTable.end(h), chunked.headingTable.end(h));
+					}
+				}
+			}
+		}
+		finally
+		{
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Test that an invalid chunk size is rejected
+	 */
+	@Test
+	void testInvalidChunkSize()
+	{
+		assertThrows(IllegalArgumentException.class,
+			() -> new HeadingExtractor(ForkJoinPool.commonPool(), 0));
+	}
+
+	private MarkdownContext process(HeadingExtractor extractor, String content)
+	{
+		MarkdownContext context = new MarkdownContext();
+		context.originalContent = content;
+		new MarkdownProcessor().addStep(extractor).addStep(new SlugMapper(slugStrategy))
+			.addStep(new TocGenerator()).addStep(new AnchorIdInjector()).process(context);
+		return context;
+	}
+}
@@ -0,0 +1,61 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.pipeline;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Shared markdown inputs for the tests that compare a heading processor against the default
+ * pipeline
+ */
+final class HeadingInputs
+{
+	/**
+	 * Edge cases such as empty content, trailing blank lines, indented headings, invalid heading
+	 * markers and windows line endings
+	 */
+	static final List<String> EDGE_CASES = List.of("", "\n", "\n\n\n", "no headings at all",
+		"# Title One\nSome text here.\n\n## Subtitle Two\nMore text.\n",
+		"   ## Indented Heading   \ntext\n\n\n",
+		"####### Seven\n#NoSpace\n# \n#\n###### Six\n", "# Windows Line\r\ntext\r\n",
+		"\n# Leading Blank\n    \n", "# Über-cool Stuff & Features\n## What's New in v2.0?");
+
+	private HeadingInputs()
+	{
+	}
+
+	/**
+	 * Creates a list of the edge cases followed by the given inputs
+	 *
+	 * @param inputs
+	 *            the additional inputs
+	 * @return the edge cases followed by the given inputs
+	 */
+	static List<String> withEdgeCases(String... inputs)
+	{
+		return Stream.concat(EDGE_CASES.stream(), Stream.of(inputs)).toList();
+	}
+}
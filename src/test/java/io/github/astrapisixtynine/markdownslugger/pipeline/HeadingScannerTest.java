@@ -0,0 +1,135 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapisixtynine.markdownslugger.core.HeadingTable;
+
+/**
+ * Unit tests for the heading scanners Validates that the scalar and the Vector API scanner find
+ * the same headings as parsing every line
+ */
+class HeadingScannerTest
+{
+	/**
+	 * Tests the scalar scanner against parsing every line
+	 */
+	@Test
+	void testScalarScanner()
+	{
+		assertMatchesLineByLine(new ScalarHeadingScanner());
+	}
+
+	/**
+	 * Tests that the scalar scanner is selected unless the Vector API scanner is requested
+	 */
+	@Test
+	void testDefaultScanner()
+	{
+		if (!"vector".equals(System.getProperty(HeadingScanner.SCANNER_PROPERTY)))
+		{
+			assertInstanceOf(ScalarHeadingScanner.class, HeadingScanner.INSTANCE);
+		}
+	}
+
+	/**
+	 * Tests the Vector API scanner against parsing every line when the module is available
+	 */
+	@Test
+	void testVectorScanner() throws Exception
+	{
+		if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty())
+		{
+			return;
+		}
+		// the scanner is compiled in the separate vector source set
+		assertMatchesLineByLine(Class
+			.forName(HeadingScanner.class.getPackageName() + ".VectorHeadingScanner")
+			.asSubclass(HeadingScanner.class).getDeclaredConstructor().newInstance());
+	}
+
+	private static void assertMatchesLineByLine(HeadingScanner scanner)
+	{
+		String alphabet = "####   \n\n\t\rabc#é";
+		Random random = new Random(17);
+		for (int i = 0; i < 3000; i++)
+		{
+			StringBuilder document = new StringBuilder();
+			// long documents span several chunks of the vector scanner
+			int length = i % 100 == 0 ? 10000 : random.nextInt(80);
+			for (int j = 0; j < length; j++)
+			{
+				document.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			}
+			String content = document.toString();
+			HeadingTable table = new HeadingTable();
+			table.reset(content);
+			scanner.scan(content, table);
+			assertEquals(lineByLine(content), rows(table), content);
+		}
+	}
+
+	private static List<String> lineByLine(String content)
+	{
+		List<String> rows = new ArrayList<>();
+		int lineStart = 0;
+		while (lineStart <= content.length())
+		{
+			int lineEnd = content.indexOf('\n', lineStart);
+			if (lineEnd < 0)
+			{
+				lineEnd = content.length();
+			}
+			int level = HeadingLineParser.lineLevel(content, lineStart, lineEnd);
+			if (level > 0)
+			{
+				int trimmedStart = HeadingLineParser.trimStart(content, lineStart, lineEnd);
+				int trimmedEnd = HeadingLineParser.trimEnd(content, trimmedStart, lineEnd);
+				rows.add(level + ":" + lineStart + ":" + lineEnd + ":" + (trimmedStart + level + 1)
+					+ ":" + trimmedEnd);
+			}
+			lineStart = lineEnd + 1;
+		}
+		return rows;
+	}
+
+	private static List<String> rows(HeadingTable table)
+	{
+		List<String> rows = new ArrayList<>();
+		for (int i = 0; i < table.size(); i++)
+		{
+			rows.add(table.level(i) + ":" + table.lineStart(i) + ":" + table.lineEnd(i) + ":"
+				+ table.start(i) + ":" + table.end(i));
+		}
+		return rows;
+	}
+}
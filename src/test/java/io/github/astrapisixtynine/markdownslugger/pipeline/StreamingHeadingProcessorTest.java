@@ -0,0 +1,100 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessor;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugStrategy;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugTestFixtures;
+
+/**
+ * Unit tests for the StreamingHeadingProcessor Validates that streaming produces the same output
+ * as the default pipeline regardless of how the input is split into read buffers
+ */
+class StreamingHeadingProcessorTest
+{
+	private final SlugStrategy slugStrategy = SlugTestFixtures.defaultStrategy();
+
+	/**
+	 * Tests the streaming mode against the default pipeline with tiny and default buffer sizes
+	 */
+	@Test
+	void testStreamingMatchesDefaultPipeline() throws Exception
+	{
+		List<String> inputs = List.of("", "\n", "\n\n\n", "no headings at all",
+			"# Title One\nSome text here.\n\n## Subtitle Two\nMore text.\n",
+			"   ## Indented Heading   \ntext\n\n\n", "   \n\n",
+			"####### Seven\n#NoSpace\n# \n#\n###### Six\n", "# Windows Line\r\ntext\r\n",
+			"\n# Leading Blank\n    \n", "# Über-cool Stuff & Features\n## What's New in v2.0?");
+		for (String input : inputs)
+		{
+			MarkdownContext expected = new MarkdownContext();
+			expected.originalContent = input;
+			MarkdownProcessor.defaultPipeline(slugStrategy).process(expected);
+
+			for (int bufferSize : new int[] { 1, 2, 3, 7,
+					StreamingHeadingProcessor.DEFAULT_BUFFER_SIZE })
+			{
+				StringWriter writer = new StringWriter();
+				MarkdownContext actual = new StreamingHeadingProcessor(slugStrategy, bufferSize)
+					.process(new StringReader(input), writer);
+
+				assertEquals(expected.originalContent, writer.toString());
+				assertEquals(expected.headings, actual.headings);
+				assertEquals(expected.headingLevels, actual.headingLevels);
+				assertEquals(expected.slugs, actual.slugs);
+				assertEquals(expected.toc, actual.toc);
+				assertNull(actual.originalContent);
+			}
+		}
+	}
+
+	/**
+	 * Tests the byte stream variant with UTF-8 content
+	 */
+	@Test
+	void testStreamingWithByteStreams() throws Exception
+	{
+		String input = "# Über Uns\ntext\n## Straße\n";
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		MarkdownContext context = MarkdownProcessor.processStreaming(slugStrategy,
+			new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+		assertEquals("# Über Uns {#uber-uns}\ntext\n## Straße {#strae}\n",
+			output.toString(StandardCharsets.UTF_8));
+		assertEquals(List.of("Über Uns", "Straße"), context.headings);
+	}
+}
@@ -0,0 +1,118 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessor;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugTestFixtures;
+
+/**
+ * Unit tests for the TocRenderer Validates the Markdown, HTML and JSON formats, level filtering and
+ * rendering from the heading table as well as from plain lists
+ */
+class TocRendererTest
+{
+	private static final String CONTENT = "# Title\n## Install & \"Run\"\n#### Deep <b>\n"
+		+ "## Usage\n";
+
+	private final MarkdownProcessor processor = MarkdownProcessor.defaultPipeline(
+		SlugTestFixtures.defaultStrategy());
+
+	/**
+	 * Tests the Markdown format with and without level filtering
+	 */
+	@Test
+	void testMarkdown() throws Exception
+	{
+		MarkdownContext context = process();
+		assertEquals(context.toc, TocRenderer.MARKDOWN.render(context));
+
+		StringWriter writer = new StringWriter();
+		new TocRenderer(TocFormat.MARKDOWN, 2, 1).render(context, writer);
+		assertEquals("- [Install & \"Run\"](#install-run)\n- [Usage](#usage)\n", writer.toString());
+	}
+
+	/**
+	 * Tests that HTML lists are well nested, also across level jumps, and texts are escaped
+	 */
+	@Test
+	void testHtml()
+	{
+		MarkdownContext context = process();
+		assertEquals("<ul><li><a href=\"#title\">Title</a><ul>"
+			+ "<li><a href=\"#install-run\">Install &amp; &quot;Run&quot;</a>"
+			+ "<ul><li><ul><li><a href=\"#deep-b\">Deep &lt;b&gt;</a></li></ul></li></ul></li>"
+			+ "<li><a href=\"#usage\">Usage</a></li></ul></li></ul>",
+			new TocRenderer(TocFormat.HTML).render(context));
+		assertEquals("", new TocRenderer(TocFormat.HTML, 5, 1).render(context));
+	}
+
+	/**
+	 * Tests the JSON format from plain lists
+	 */
+	@Test
+	void testJsonFromLists()
+	{
+		MarkdownContext context = new MarkdownContext();
+		context.headings = new ArrayList<>(List.of("Quote \" and \\", "Tab\tLine\u2028"));
+		context.headingLevels = new ArrayList<>(List.of(1, 3));
+		context.slugs = new ArrayList<>(List.of("quote-and", "tab-line"));
+		assertEquals("[{\"level\":1,\"text\":\"Quote \\\" and \\\\\",\"slug\":\"quote-and\"},"
+			+ "{\"level\":3,\"text\":\"Tab\\tLine\\u2028\",\"slug\":\"tab-line\"}]",
+			new TocRenderer(TocFormat.JSON).render(context));
+		assertEquals("[]", new TocRenderer(TocFormat.JSON, 1, 1).render(process("## Only\n")));
+	}
+
+	/**
+	 * Tests that invalid filters are rejected
+	 */
+	@Test
+	void testInvalidFilters()
+	{
+		assertThrows(IllegalArgumentException.class, () -> new TocRenderer(TocFormat.HTML, 0, 3));
+		assertThrows(IllegalArgumentException.class, () -> new TocRenderer(TocFormat.HTML, 1, 0));
+	}
+
+	private MarkdownContext process()
+	{
+		return process(CONTENT);
+	}
+
+	private MarkdownContext process(String content)
+	{
+		MarkdownContext context = new MarkdownContext();
+		context.originalContent = content;
+		processor.process(context);
+		return context;
+	}
+}
@@ -0,0 +1,139 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessor;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugStrategy;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugTestFixtures;
+
+/**
+ * Unit tests for the Utf8HeadingProcessor Validates that processing in the byte domain produces
+ * the same results as the default pipeline on the decoded content
+ */
+class Utf8HeadingProcessorTest
+{
+	private static final List<String> INPUTS = HeadingInputs.withEdgeCases(
+		"# Über-cool Stuff & Features\n## Ça va? 日本語 😀\n",
+		"# Next\u0085Line\n# Line\u2028Separator\n# Para\u2029Separator\n# Trailing\u2028\n",
+		"\t# Tab\u000b\n# Café ünïcödé\n");
+
+	private final SlugStrategy slugStrategy = SlugTestFixtures.defaultStrategy();
+
+	private final Utf8HeadingProcessor processor = new Utf8HeadingProcessor(slugStrategy);
+
+	/**
+	 * Tests that the byte path matches the default pipeline on a variety of inputs
+	 */
+	@Test
+	void testMatchesDefaultPipeline()
+	{
+		for (String input : INPUTS)
+		{
+			assertMatchesDefaultPipeline(input);
+		}
+	}
+
+	/**
+	 * Tests that the byte path matches the default pipeline on random documents
+	 */
+	@Test
+	void testMatchesDefaultPipelineOnRandomDocuments()
+	{
+		String alphabet = "## \n\n\r\t aZé日😀\u0085\u2028-";
+		Random random = new Random(16);
+		for (int i = 0; i < 2000; i++)
+		{
+			StringBuilder document = new StringBuilder();
+			int length = random.nextInt(40);
+			for (int j = 0; j < length; j++)
+			{
+				int index = random.nextInt(alphabet.length());
+				char c = alphabet.charAt(index);
+				document.append(c);
+				if (Character.isHighSurrogate(c))
+				{
+					document.append(alphabet.charAt(index + 1));
+				}
+				else if (Character.isLowSurrogate(c))
+				{
+					document.setLength(document.length() - 1);
+				}
+			}
+			assertMatchesDefaultPipeline(document.toString());
+		}
+	}
+
+	/**
+	 * Tests that heap buffers are processed in place from their position and direct buffers
+	 * produce the same result
+	 */
+	@Test
+	void testByteBuffers()
+	{
+		byte[] bytes = "xx# Title\ntext\n".getBytes(StandardCharsets.UTF_8);
+		ByteBuffer heap = ByteBuffer.wrap(bytes);
+		heap.position(2);
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length - 2);
+		direct.put(bytes, 2, bytes.length - 2).flip();
+
+		for (ByteBuffer input : List.of(heap, direct))
+		{
+			MarkdownContext context = new MarkdownContext();
+			ByteBuffer output = processor.process(input, context);
+			// the result array is allocated with its exact size
+			assertEquals(output.capacity(), output.remaining());
+			assertEquals("# Title {#title}\ntext\n",
+				StandardCharsets.UTF_8.decode(output).toString());
+			assertEquals(List.of("title"), context.slugs);
+		}
+		assertEquals(2, heap.position());
+	}
+
+	private void assertMatchesDefaultPipeline(String input)
+	{
+		MarkdownContext expected = new MarkdownContext();
+		expected.originalContent = input;
+		MarkdownProcessor.defaultPipeline(slugStrategy).process(expected);
+
+		MarkdownContext actual = new MarkdownContext();
+		byte[] output = processor.process(input.getBytes(StandardCharsets.UTF_8), actual);
+		assertEquals(expected.originalContent, new String(output, StandardCharsets.UTF_8), input);
+		assertEquals(expected.headings, actual.headings, input);
+		assertEquals(expected.headingLevels, actual.headingLevels, input);
+		assertEquals(expected.slugs, actual.slugs, input);
+		assertEquals(expected.toc, actual.toc, input);
+		assertNull(actual.originalContent);
+	}
+}
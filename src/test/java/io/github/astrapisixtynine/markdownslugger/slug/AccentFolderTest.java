@@ -0,0 +1,114 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.slug;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.text.Normalizer;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the AccentFolder Validates that table driven folding matches NFD normalization
+ * followed by the removal of combining diacritical marks
+ */
+class AccentFolderTest
+{
+	/**
+	 * Combining marks with different canonical combining classes inside and outside of the block
+	 * Combining Diacritical Marks
+	 */
+	private static final String MARKS = "\u0301\u0323\u0308\u034F\u1DCA\u20D0\u05B0";
+
+	/**
+	 * Tests every BMP character on its own and followed by combining marks
+	 */
+	@Test
+	void testEveryCharacterMatchesNormalizer()
+	{
+		for (char c = 0; c < 0xFFFF; c++)
+		{
+			if (Character.isSurrogate(c))
+			{
+				continue;
+			}
+			String text = String.valueOf(c);
+			assertEquals(original(text), AccentFolder.fold(text), "character " + (int)c);
+			for (int i = 0; i < MARKS.length(); i++)
+			{
+				String marked = text + MARKS.charAt(i);
+				assertEquals(original(marked), AccentFolder.fold(marked), "character " + (int)c);
+			}
+		}
+	}
+
+	/**
+	 * Tests random mixed text from several scripts
+	 */
+	@Test
+	void testRandomTextMatchesNormalizer()
+	{
+		String alphabet = "aZ -éÅçøßŁőǅṩἄΐώЁйӲ中😀" + MARKS;
+		Random random = new Random(7);
+		for (int i = 0; i < 20_000; i++)
+		{
+			StringBuilder text = new StringBuilder();
+			int length = random.nextInt(10);
+			for (int j = 0; j < length; j++)
+			{
+				int index = random.nextInt(alphabet.length());
+				if (Character.isHighSurrogate(alphabet.charAt(index)))
+				{
+					text.append(alphabet, index, index + 2);
+				}
+				else if (!Character.isLowSurrogate(alphabet.charAt(index)))
+				{
+					text.append(alphabet.charAt(index));
+				}
+			}
+			assertEquals(original(text.toString()), AccentFolder.fold(text.toString()));
+			assertEquals(original(text.toString()),
+				AccentFolder.fold(text, new StringBuilder()).toString());
+		}
+	}
+
+	/**
+	 * Tests that ASCII input is returned without copying
+	 */
+	@Test
+	void testAsciiFastPath()
+	{
+		String text = "Plain ASCII Heading 42";
+		assertSame(text, AccentFolder.fold(text));
+		assertEquals("Ubermensch a la francaise", AccentFolder.fold("Übermensch à la française"));
+	}
+
+	private static String original(String text)
+	{
+		return Normalizer.normalize(text, Normalizer.Form.NFD)
+			.replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+	}
+}
@@ -0,0 +1,107 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.slug;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the CachingSlugStrategy Validates memoization, bounded eviction and the hit, miss
+ * and eviction counters
+ */
+class CachingSlugStrategyTest
+{
+	/**
+	 * Tests that repeated headings are answered from the cache
+	 */
+	@Test
+	void testRepeatedHeadingsAreCached()
+	{
+		AtomicInteger calls = new AtomicInteger();
+		CachingSlugStrategy strategy = new CachingSlugStrategy(heading -> {
+			calls.incrementAndGet();
+			return heading.toLowerCase();
+		}, 100);
+
+		assertEquals("usage", strategy.toSlug("Usage"));
+		assertEquals("usage", strategy.toSlug("Usage"));
+		assertEquals("license", strategy.toSlug("License"));
+		assertEquals("usage", strategy.toSlug("Usage"));
+
+		assertEquals(2, calls.get());
+		assertEquals(2, strategy.getHitCount());
+		assertEquals(2, strategy.getMissCount());
+		assertEquals(0.5, strategy.getHitRate(), 0.0001);
+		assertEquals(2, strategy.size());
+	}
+
+	/**
+	 * Tests that the cache never grows beyond its maximum size and counts evictions
+	 */
+	@Test
+	void testCacheIsBounded()
+	{
+		CachingSlugStrategy strategy = new CachingSlugStrategy(String::toLowerCase, 1000);
+		for (int i = 0; i < 5000; i++)
+		{
+			strategy.toSlug("Heading " + i);
+		}
+		assertTrue(strategy.size() <= 1000);
+		assertEquals(5000 - strategy.size(), strategy.getEvictionCount());
+	}
+
+	/**
+	 * Tests concurrent access from several threads
+	 */
+	@Test
+	void testConcurrentAccess() throws Exception
+	{
+		CachingSlugStrategy strategy = new CachingSlugStrategy(String::toLowerCase, 64);
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < 4; t++)
+		{
+			Thread thread = new Thread(() -> {
+				for (int i = 0; i < 10_000; i++)
+				{
+					String heading = "Heading " + (i % 100);
+					assertEquals(heading.toLowerCase(), strategy.toSlug(heading));
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads)
+		{
+			thread.join();
+		}
+		assertEquals(40_000, strategy.getHitCount() + strategy.getMissCount());
+		assertTrue(strategy.size() <= 64);
+	}
+}
@@ -0,0 +1,86 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.slug;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the ReplacementEngine Validates single-pass, longest-match replacement
+ */
+class ReplacementEngineTest
+{
+	/**
+	 * Tests transliteration of single characters from several scripts
+	 */
+	@Test
+	void testSingleCharacterReplacements()
+	{
+		ReplacementEngine engine = ReplacementEngine.compile(Map.of("ä", "ae", "ö", "oe", "ß", "ss",
+			"ø", "o", "ж", "zh", "λ", "l", "中", "zhong"));
+		assertEquals("Groesse und Stroemung", engine.apply("Größe und Strömung"));
+		assertEquals("zh-l-zhongwen", engine.apply("ж-λ-中wen"));
+		assertEquals("o", engine.apply("ø"));
+	}
+
+	/**
+	 * Tests that the longest key wins and that replaced text is not replaced again
+	 */
+	@Test
+	void testLongestMatchWithoutChaining()
+	{
+		Map<String, String> replacements = new HashMap<>();
+		replacements.put("a", "1");
+		replacements.put("ab", "2");
+		replacements.put("abc", "3");
+		replacements.put("1", "x");
+		replacements.put("😀", "smile");
+		ReplacementEngine engine = ReplacementEngine.compile(replacements);
+
+		assertEquals("3", engine.apply("abc"));
+		assertEquals("2d", engine.apply("abd"));
+		assertEquals("1x", engine.apply("a1"));
+		assertEquals("smile!", engine.apply("😀!"));
+		assertEquals("3-2", engine.apply(new StringBuilder("abc-ab"), new StringBuilder())
+			.toString());
+	}
+
+	/**
+	 * Tests that text without any key is returned unchanged and that empty keys are rejected
+	 */
+	@Test
+	void testNoMatchAndInvalidKeys()
+	{
+		ReplacementEngine engine = ReplacementEngine.compile(Map.of("ä", "ae"));
+		String text = "nothing to replace";
+		assertSame(text, engine.apply(text));
+		assertThrows(IllegalArgumentException.class,
+			() -> ReplacementEngine.compile(Map.of("", "x")));
+	}
+}
@@ -0,0 +1,200 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.slug;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.CharBuffer;
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the SlugProgram Validates that the compiled program produces exactly the same
+ * slugs as the original regex based algorithm for all configuration combinations
+ */
+class SlugProgramTest
+{
+	/**
+	 * Characters used to build random headings, including whitespace, separators, accents and
+	 * characters that the regex dollar boundary treats as line terminators
+	 */
+	private static final String ALPHABET = "aZ9 -_\t\n\r\u000B\f.!?&äÜéßçŁ"
+		+ "\u0301\u0085\u2028Σİ€中😀$\\";
+
+	/**
+	 * Tests the compiled program against the original algorithm with random headings and every
+	 * combination of the boolean configuration flags
+	 */
+	@Test
+	void testCompiledProgramMatchesOriginalAlgorithm()
+	{
+		Random random = new Random(42);
+		Map<String, String> replacements = new LinkedHashMap<>();
+		replacements.put("ä", "ae");
+		replacements.put("ß", "ss");
+		for (String separator : List.of("-", "_", " ", "", "--", "$"))
+		{
+			for (int flags = 0; flags < 64; flags++)
+			{
+				SlugifyConfig config = new SlugifyConfig(
+					(flags & 32) != 0 ? replacements : Map.of(), (flags & 1) != 0,
+					(flags & 2) != 0, separator, (flags & 4) != 0, (flags & 8) != 0,
+					(flags & 16) != 0, "[^a-z0-9\\s-]");
+				SlugProgram program;
+				try
+				{
+					program = SlugProgram.compile(config);
+				}
+				catch (RuntimeException e)
+				{
+					// invalid configurations are rejected up front instead of on every heading
+					assertThrows(e.getClass(), () -> originalSlug(config, "a"));
+					continue;
+				}
+				for (int i = 0; i < 50; i++)
+				{
+					String heading = randomHeading(random);
+					String expected;
+					try
+					{
+						expected = originalSlug(config, heading);
+					}
+					catch (RuntimeException e)
+					{
+						assertThrows(e.getClass(), () -> program.apply(heading));
+						continue;
+					}
+					assertEquals(expected, program.apply(heading),
+						"heading '" + heading + "' separator '" + separator + "' flags " + flags);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests that appending a slug to a builder produces the same slug as the string based form for
+	 * random headings, filter regexes and every combination of the boolean configuration flags
+	 */
+	@Test
+	void testAppendingMatchesStringForm()
+	{
+		Random random = new Random(7);
+		Map<String, String> replacements = new LinkedHashMap<>();
+		replacements.put("ä", "ae");
+		replacements.put("&", " and ");
+		for (String regex : List.of("[^a-z0-9\\s-]", "[^\\p{L}\\p{N}\\s\\-]", "[.!?]", "[^a-z]+",
+			"\\W"))
+		{
+			for (String separator : List.of("-", "_", "--"))
+			{
+				for (int flags = 0; flags < 64; flags++)
+				{
+					SlugProgram program = SlugProgram.compile(new SlugifyConfig(
+						(flags & 32) != 0 ? replacements : Map.of(), (flags & 1) != 0,
+						(flags & 2) != 0, separator, (flags & 4) != 0, (flags & 8) != 0,
+						(flags & 16) != 0, regex));
+					for (int i = 0; i < 20; i++)
+					{
+						String heading = randomHeading(random);
+						StringBuilder out = new StringBuilder("prefix|");
+						program.apply(CharBuffer.wrap("<" + heading + ">"), out);
+						assertEquals("prefix|" + program.apply("<" + heading + ">"), out.toString(),
+							"heading '" + heading + "' regex " + regex + " flags " + flags);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests a few well known headings with the default configuration
+	 */
+	@Test
+	void testDefaultConfiguration()
+	{
+		SlugProgram program = SlugProgram.compile(SlugTestFixtures.defaultConfig());
+		assertEquals("welcome-to-the-jungle", program.apply("Welcome to the Jungle!"));
+		assertEquals("whats-new-in-v20", program.apply("What's New in v2.0?"));
+		assertEquals("uber-cool-stuff-features", program.apply("  Über-cool  Stuff & Features  "));
+		assertEquals("# welcome-to-the-jungle",
+			program.apply("Welcome to the Jungle!", new StringBuilder("# ")).toString());
+	}
+
+	private static String randomHeading(Random random)
+	{
+		int length = random.nextInt(12);
+		StringBuilder heading = new StringBuilder();
+		for (int i = 0; i < length; i++)
+		{
+			int codePoint = random.nextInt(ALPHABET.codePointCount(0, ALPHABET.length()));
+			heading.appendCodePoint(
+				ALPHABET.codePointAt(ALPHABET.offsetByCodePoints(0, codePoint)));
+		}
+		return heading.toString();
+	}
+
+	/**
+	 * The original slug algorithm of DefaultSlugStrategy used as a reference
+	 */
+	private static String originalSlug(SlugifyConfig config, String heading)
+	{
+		String slug = heading;
+		for (Map.Entry<String, String> entry : config.getReplacements().entrySet())
+		{
+			slug = slug.replace(entry.getKey(), entry.getValue());
+		}
+		if (config.isRemoveAccents())
+		{
+			slug = Normalizer.normalize(slug, Normalizer.Form.NFD)
+				.replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+		}
+		if (config.isToLowerCase())
+		{
+			slug = slug.toLowerCase();
+		}
+		if (config.isStripNonAlphanumeric())
+		{
+			slug = slug.replaceAll(config.getAllowedCharactersRegex(), "");
+		}
+		slug = slug.replaceAll("\\s+", config.getWhitespaceReplacement());
+		if (config.isCollapseDashes())
+		{
+			String sep = Pattern.quote(config.getWhitespaceReplacement());
+			slug = slug.replaceAll(sep + "{2,}", config.getWhitespaceReplacement());
+		}
+		if (config.isTrimEdges())
+		{
+			String sep = Pattern.quote(config.getWhitespaceReplacement());
+			slug = slug.replaceAll("^" + sep + "+", "").replaceAll(sep + "+$", "");
+		}
+		return slug;
+	}
+}
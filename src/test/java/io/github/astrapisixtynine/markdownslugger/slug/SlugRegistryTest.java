@@ -0,0 +1,146 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.slug;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownContext;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessor;
+import io.github.astrapisixtynine.markdownslugger.pipeline.AnchorIdInjector;
+import io.github.astrapisixtynine.markdownslugger.pipeline.HeadingExtractor;
+import io.github.astrapisixtynine.markdownslugger.pipeline.TocGenerator;
+
+/**
+ * Unit tests for the SlugRegistry Validates unique suffixes across documents and that the result
+ * does not depend on the registration order
+ */
+class SlugRegistryTest
+{
+	private final SlugStrategy strategy = SlugTestFixtures.defaultStrategy();
+
+	/**
+	 * Tests that duplicate headings across and inside documents get suffixed anchors in book order
+	 */
+	@Test
+	void testUniqueAnchorsAcrossDocuments()
+	{
+		String[] documents = { "# Introduction\n## Usage\n", "# Introduction\n## Usage\n## Usage\n",
+				"# Introduction 1\n" };
+		MarkdownProcessor first = new MarkdownProcessor().addStep(new HeadingExtractor())
+			.addStep(new SlugMapper(strategy));
+		MarkdownProcessor second = new MarkdownProcessor().addStep(new TocGenerator())
+			.addStep(new AnchorIdInjector());
+		SlugRegistry registry = new SlugRegistry();
+		List<MarkdownContext> contexts = new ArrayList<>();
+		for (int i = 0; i < documents.length; i++)
+		{
+			MarkdownContext context = new MarkdownContext();
+			context.originalContent = documents[i];
+			first.process(context);
+			registry.register(i, context);
+			contexts.add(context);
+		}
+		registry.seal();
+		for (int i = 0; i < documents.length; i++)
+		{
+			registry.apply(i, contexts.get(i));
+			second.process(contexts.get(i));
+		}
+
+		assertEquals(List.of("introduction", "usage"), contexts.get(0).slugs);
+		assertEquals(List.of("introduction-2", "usage-1", "usage-2"), contexts.get(1).slugs);
+		assertEquals(List.of("introduction-1"), contexts.get(2).slugs);
+		assertEquals("# Introduction {#introduction-2}\n## Usage {#usage-1}\n## Usage {#usage-2}\n",
+			contexts.get(1).originalContent);
+		assertEquals(
+			"- [Introduction](#introduction-2)\n  - [Usage](#usage-1)\n  - [Usage](#usage-2)\n",
+			contexts.get(1).toc);
+	}
+
+	/**
+	 * Tests that concurrent registration in random order always yields the same unique slugs
+	 */
+	@Test
+	void testDeterministicUnderConcurrency()
+	{
+		int documentCount = 200;
+		List<List<String>> documents = new ArrayList<>();
+		Random random = new Random(12);
+		for (int i = 0; i < documentCount; i++)
+		{
+			List<String> slugs = new ArrayList<>();
+			for (int j = 0; j < 10; j++)
+			{
+				int value = random.nextInt(30);
+				slugs.add(value < 25 ? "heading-" + value : "heading");
+			}
+			documents.add(slugs);
+		}
+
+		List<List<String>> expected = null;
+		for (int run = 0; run < 5; run++)
+		{
+			List<Integer> order = new ArrayList<>(
+				IntStream.range(0, documentCount).boxed().toList());
+			Collections.shuffle(order, random);
+			SlugRegistry registry = new SlugRegistry();
+			order.parallelStream().forEach(index -> registry.register(index, documents.get(index)));
+			registry.seal();
+			List<List<String>> actual = IntStream.range(0, documentCount)
+				.mapToObj(registry::uniqueSlugs).toList();
+			if (expected == null)
+			{
+				expected = actual;
+				assertEquals(documentCount * 10,
+					actual.stream().flatMap(List::stream).distinct().count());
+			}
+			assertEquals(expected, actual);
+		}
+	}
+
+	/**
+	 * Tests the registration and seal state checks
+	 */
+	@Test
+	void testStateChecks()
+	{
+		SlugRegistry registry = new SlugRegistry();
+		registry.register(0, List.of("a"));
+		assertThrows(IllegalStateException.class, () -> registry.register(0, List.of("b")));
+		assertThrows(IllegalStateException.class, () -> registry.uniqueSlugs(0));
+		registry.seal();
+		assertThrows(IllegalStateException.class, () -> registry.register(1, List.of("a")));
+		assertThrows(IllegalArgumentException.class, () -> registry.uniqueSlugs(1));
+		assertEquals(List.of("a"), registry.uniqueSlugs(0));
+	}
+}
@@ -0,0 +1,66 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.slug;
+
+import java.util.Map;
+
+/**
+ * Shared slug fixtures for the tests, the configuration matches the default GitHub style slugs
+ * used throughout the test suite
+ */
+public final class SlugTestFixtures
+{
+	private SlugTestFixtures()
+	{
+	}
+
+	/**
+	 * Creates the default slug configuration of the test suite
+	 *
+	 * @return the default slug configuration
+	 */
+	public static SlugifyConfig defaultConfig()
+	{
+		return new SlugifyConfig(Map.of(), // replacements
+			true, // toLowerCase
+			true, // stripNonAlphanumeric
+			"-", // whitespaceReplacement
+			true, // trimEdges
+			true, // removeAccents
+			true, // collapseDashes
+			"[^a-z0-9\\s-]" // allowedCharactersRegex
+		);
+	}
+
+	/**
+	 * Creates a slug strategy for the default slug configuration of the test suite
+	 *
+	 * @return the default slug strategy
+	 */
+	public static SlugStrategy defaultStrategy()
+	{
+		return new DefaultSlugStrategy(defaultConfig());
+	}
+}
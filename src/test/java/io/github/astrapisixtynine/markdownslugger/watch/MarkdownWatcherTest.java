@@ -0,0 +1,134 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.watch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapisixtynine.markdownslugger.batch.DocumentResult;
+import io.github.astrapisixtynine.markdownslugger.core.MarkdownProcessor;
+import io.github.astrapisixtynine.markdownslugger.slug.CachingSlugStrategy;
+import io.github.astrapisixtynine.markdownslugger.slug.SlugTestFixtures;
+
+/**
+ * Unit tests for the MarkdownWatcher Validates that changed files are re-processed after the
+ * debounce interval, that bursts of changes are coalesced and that new directories are watched
+ */
+class MarkdownWatcherTest
+{
+	private final MarkdownProcessor processor = MarkdownProcessor.defaultPipeline(
+		new CachingSlugStrategy(SlugTestFixtures.defaultStrategy(), 1000));
+
+	/**
+	 * Tests that a burst of writes to a file is processed once with the final content
+	 */
+	@Test
+	void testBurstIsCoalesced() throws Exception
+	{
+		Path root = Files.createTempDirectory("watch");
+		Path file = root.resolve("doc.md");
+		BlockingQueue<DocumentResult<Path>> results = new LinkedBlockingQueue<>();
+		try (MarkdownWatcher watcher = new MarkdownWatcher(root, processor, results::add,
+			Duration.ofMillis(300), 2).start())
+		{
+			for (int i = 0; i < 5; i++)
+			{
+				Files.writeString(file, "# Version " + i + "\n");
+			}
+			Files.writeString(root.resolve("ignored.txt"), "# Not Markdown\n");
+			DocumentResult<Path> result = results.poll(10, TimeUnit.SECONDS);
+			assertNotNull(result);
+			assertTrue(result.isSuccess());
+			assertEquals(file, result.getSource());
+			assertEquals(List.of("version-4"), result.getContext().slugs);
+			assertNull(results.poll(1, TimeUnit.SECONDS));
+		}
+	}
+
+	/**
+	 * Tests that files in directories created after the start are processed
+	 */
+	@Test
+	void testNewDirectoriesAreWatched() throws Exception
+	{
+		Path root = Files.createTempDirectory("watch");
+		Files.writeString(root.resolve("existing.md"), "# Existing\n");
+		BlockingQueue<DocumentResult<Path>> results = new LinkedBlockingQueue<>();
+		try (MarkdownWatcher watcher = new MarkdownWatcher(root, processor, results::add,
+			Duration.ofMillis(100), 2))
+		{
+			watcher.processAll();
+			assertEquals(List.of("existing"),
+				results.poll(10, TimeUnit.SECONDS).getContext().slugs);
+			watcher.start();
+			Path chapter = Files.createDirectory(root.resolve("chapter"));
+			// gives the watch thread time to register the new directory before the file is written
+			Thread.sleep(300);
+			Files.writeString(chapter.resolve("one.md"), "# One\n");
+			DocumentResult<Path> result = results.poll(10, TimeUnit.SECONDS);
+			assertNotNull(result);
+			assertEquals(List.of("one"), result.getContext().slugs);
+		}
+	}
+
+	/**
+	 * Tests that a file is processed again after the consumer threw for it
+	 */
+	@Test
+	void testFailingConsumerDoesNotLockFile() throws Exception
+	{
+		Path root = Files.createTempDirectory("watch");
+		Files.writeString(root.resolve("doc.md"), "# Doc\n");
+		BlockingQueue<DocumentResult<Path>> results = new LinkedBlockingQueue<>();
+		AtomicInteger calls = new AtomicInteger();
+		try (MarkdownWatcher watcher = new MarkdownWatcher(root, processor, result -> {
+			if (calls.getAndIncrement() == 0)
+			{
+				throw new IllegalStateException("consumer failed");
+			}
+			results.add(result);
+		}, Duration.ofMillis(100), 1))
+		{
+			DocumentResult<Path> result = null;
+			for (int attempt = 0; attempt < 100 && result == null; attempt++)
+			{
+				watcher.processAll();
+				result = results.poll(100, TimeUnit.MILLISECONDS);
+			}
+			assertNotNull(result);
+			assertEquals(List.of("doc"), result.getContext().slugs);
+		}
+	}
+}
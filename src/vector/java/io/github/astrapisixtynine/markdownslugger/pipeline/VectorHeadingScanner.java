@@ -0,0 +1,86 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2025 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapisixtynine.markdownslugger.pipeline;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Heading scanner that compares a full vector of chars against the hash character at a time
+ *
+ * The content is copied chunk by chunk into a scratch buffer, vectors without a hash are skipped
+ * with a single comparison. The copy makes it no faster than the scalar scanner on strings, so it
+ * is only loaded on request and when the {@code jdk.incubator.vector} module is available
+ */
+final class VectorHeadingScanner extends HeadingScanner
+{
+	/**
+	 * The widest vector shape of the platform
+	 */
+	private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+
+	/**
+	 * The number of chars copied into the scratch buffer at a time
+	 */
+	private static final int CHUNK_SIZE = 2048;
+
+	@Override
+	int indexOfHash(String content, int from, int to, char[] buffer)
+	{
+		int chunkStart = from;
+		while (chunkStart < to)
+		{
+			int length = Math.min(CHUNK_SIZE, to - chunkStart);
+			content.getChars(chunkStart, chunkStart + length, buffer, 0);
+			int i = 0;
+			int bound = SPECIES.loopBound(length);
+			for (; i < bound; i += SPECIES.length())
+			{
+				VectorMask<Short> hashes = ShortVector.fromCharArray(SPECIES, buffer, i)
+					.eq((short)'#');
+				if (hashes.anyTrue())
+				{
+					return chunkStart + i + hashes.firstTrue();
+				}
+			}
+			for (; i < length; i++)
+			{
+				if (buffer[i] == '#')
+				{
+					return chunkStart + i;
+				}
+			}
+			chunkStart += length;
+		}
+		return to;
+	}
+
+	@Override
+	char[] newBuffer()
+	{
+		return new char[CHUNK_SIZE];
+	}
+}